@@ -1,14 +1,20 @@
 package com.example.cinema.config;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 
 import java.util.concurrent.Executor;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
+@Slf4j
 @Configuration
 public class AsyncConfig {
 
@@ -18,8 +24,26 @@ public class AsyncConfig {
     @Value("${encoding.pool.queue:50}")
     private int queueSize;
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    /**
+     * 가상 스레드 모드는 부하 테스트에서 tail latency 가 오히려 악화되어 운영 기본값은 false
+     * 켜져 있으면 기동 시 경고 (벤치마크로 개선을 확인한 경우에만 사용)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warnVirtualThreads() {
+        if (virtualThreads) {
+            log.warn("spring.threads.virtual.enabled=true: load benchmark showed worse p99 than platform threads "
+                    + "(enter 107s vs 85s); keep it off in production until ./gradlew benchmark shows a win");
+        }
+    }
+
     @Bean
     public Executor encodingExecutor() {
+        if (virtualThreads) {
+            return virtualEncodingExecutor();
+        }
         return new ThreadPoolExecutor(
                 poolSize,
                 poolSize,
@@ -29,4 +53,24 @@ public class AsyncConfig {
                 new ThreadPoolExecutor.CallerRunsPolicy()
         );
     }
+
+    /**
+     * 가상 스레드 모드
+     * - 제출 즉시 가상 스레드에서 대기하므로 요청 스레드가 인코딩을 직접 실행하지 않음 (기존 CallerRuns 대체)
+     * - 동시에 실행되는 인코딩(ffmpeg)은 pool.size 개로 제한, 대기 포함 pool.size + queue 개를 넘으면 제출 측이 대기
+     */
+    private Executor virtualEncodingExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("encoding-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(poolSize + queueSize);
+        Semaphore running = new Semaphore(poolSize);
+        return task -> executor.execute(() -> {
+            running.acquireUninterruptibly();
+            try {
+                task.run();
+            } finally {
+                running.release();
+            }
+        });
+    }
 }
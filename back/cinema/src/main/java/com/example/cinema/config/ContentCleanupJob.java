@@ -1,6 +1,7 @@
 package com.example.cinema.config;
 
 import com.example.cinema.repository.content.ContentRepository;
+import com.example.cinema.service.cluster.JobLeaseService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -12,10 +13,14 @@ import java.time.LocalDateTime;
 @RequiredArgsConstructor
 public class ContentCleanupJob {
     private final ContentRepository contentRepository;
+    private final JobLeaseService jobLeaseService;
 
     @Scheduled(cron = "0 0 0,12 * * *", zone = "Asia/Seoul") // 자정/정오 하루 2회
     @Transactional
     public void deleteOldDraftContents() {
+        if (!jobLeaseService.isLeader(JobLeaseService.CONTENT_CLEANUP)) {
+            return;
+        }
         LocalDateTime cutoff = LocalDateTime.now().minusHours(24);
 
         contentRepository.deleteOldDrafts(cutoff);
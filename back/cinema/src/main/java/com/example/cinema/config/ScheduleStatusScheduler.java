@@ -1,50 +1,220 @@
 package com.example.cinema.config;
 
+import com.example.cinema.entity.ScheduleItem;
 import com.example.cinema.repository.schedule.ScheduleItemRepository;
+import com.example.cinema.service.cluster.JobLeaseAcquiredEvent;
+import com.example.cinema.service.cluster.JobLeaseService;
+import com.example.cinema.service.theater.TheaterAdmissionService;
+import com.example.cinema.service.theater.TheaterChatHistory;
+import com.example.cinema.service.theater.TheaterLivePlaylistService;
+import com.example.cinema.service.theater.TheaterPlaybackService;
+import com.example.cinema.service.theater.TheaterPresenceRegistry;
 import com.example.cinema.service.theater.TheaterStateBroadcaster;
+import com.example.cinema.service.theater.TheaterSyncTicker;
+import com.example.cinema.service.theater.WatchSessionReaper;
+import com.example.cinema.type.ScheduleStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static com.example.cinema.type.ScheduleStatus.*;
 
 
+/**
+ * 상영 일정 상태 전이
+ * - 정시 전이: ScheduleTransitionTimer(타이머 휠)가 경계 시각에 fire() 호출
+ * - tick(): 놓친 전이를 보정하는 저주기 DB 점검 (재시작 직후, 다른 노드에서 변경 등)
+ * - 여러 노드 중 schedule-status 임대를 가진 노드만 DB 상태 변경 / 남은 시청 기록 정리 / 상태 메시지 전송,
+ *   임대를 인계받으면 바로 보정 점검
+ * - 노드 메모리 상태(동기화 티커, 재생 정보 캐시, 접속자 / 채팅 / 라이브 플레이리스트 / 입장 대기열)는 모든 노드가 반영
+ *   · fire(): 리더가 아닌 노드는 전이 전 또는 전이 후 상태인 일정에 대해 메모리 상태만 반영
+ *   · tick(): 모든 노드가 DB 상태와 대조 (상영 중 일정 등록 / 해제, 최근 CLOSED 된 일정 정리)
+ * - 전이한 일정은 IN 조회 1회로 읽어 상태 메시지를 만들고 커밋 후 일괄 전송
+ */
 @Component
 @RequiredArgsConstructor
 public class ScheduleStatusScheduler {
 
+    /** 전이 대상 상태 -> 허용하는 현재 상태 (WAITING 전이 전에 시작 시각이 되면 바로 PLAYING) */
+    private static final Map<ScheduleStatus, Set<ScheduleStatus>> FROM = Map.of(
+            WAITING, Set.of(CLOSED),
+            PLAYING, Set.of(CLOSED, WAITING),
+            ENDING, Set.of(PLAYING),
+            CLOSED, Set.of(ENDING)
+    );
+
+    /** 전이 대상 상태 -> 리더가 아닌 노드가 메모리 상태를 반영할 현재 상태 (리더가 전이하기 전 / 후) */
+    private static final Map<ScheduleStatus, Set<ScheduleStatus>> FROM_OR_TO = Map.of(
+            WAITING, Set.of(CLOSED, WAITING),
+            PLAYING, Set.of(CLOSED, WAITING, PLAYING),
+            ENDING, Set.of(PLAYING, ENDING),
+            CLOSED, Set.of(ENDING, CLOSED)
+    );
+
+    private static final Set<ScheduleStatus> OPEN = Set.of(WAITING, PLAYING);
+
     private final ScheduleItemRepository repo;
     private final TheaterStateBroadcaster broadcaster; // SimpMessagingTemplate 쓰는 서비스
+    private final TheaterPresenceRegistry presenceRegistry;
+    private final TheaterSyncTicker syncTicker;
+    private final TheaterChatHistory chatHistory;
+    private final TheaterPlaybackService playbackService;
+    private final TheaterLivePlaylistService livePlaylistService;
+    private final TheaterAdmissionService admissionService;
+    private final WatchSessionReaper sessionReaper;
+    private final JobLeaseService jobLeaseService;
 
-    @Scheduled(fixedDelay = 10_000)
+    @Value("${theater.schedule.reconcile-ms:60000}")
+    private long reconcileMs = 60_000;
+
+    @Scheduled(fixedDelayString = "${theater.schedule.reconcile-ms:60000}")
     @Transactional
     public void tick() {
+        if (jobLeaseService.isLeader(JobLeaseService.SCHEDULE_STATUS)) {
+            reconcile();
+        }
+        syncLocal();
+    }
+
+    /**
+     * 리더가 바뀌는 동안 다른 노드 타이머에서 건너뛴 전이를 바로 보정
+     */
+    @EventListener(condition = "#event.jobName() == T(com.example.cinema.service.cluster.JobLeaseService).SCHEDULE_STATUS")
+    @Transactional
+    public void onLeaseAcquired(JobLeaseAcquiredEvent event) {
+        reconcile();
+    }
+
+    private void reconcile() {
         LocalDateTime now = LocalDateTime.now();
 
-        // 오픈 로직은 유지(방송 필요 없으면 그대로)
-        repo.closedToWaiting(now, now.plusMinutes(10));
+        // 0) CLOSED -> WAITING (재생 정보 캐시 미리 적재)
+        open(repo.findIdsClosedToWaiting(now, now.plusMinutes(10)));
 
         // 1) WAITING -> PLAYING
-        var toPlaying = repo.findIdsWaitingToPlaying(now);
-        if (!toPlaying.isEmpty()) {
-            repo.updateStatusByIds(PLAYING, toPlaying);
-            toPlaying.forEach(broadcaster::broadcastState);
-        }
+        start(repo.findIdsWaitingToPlaying(now));
 
         // 2) PLAYING -> ENDING
-        var toEnding = repo.findIdsPlayingToEnding(now);
-        if (!toEnding.isEmpty()) {
-            repo.updateStatusByIds(ENDING, toEnding);
-            toEnding.forEach(broadcaster::broadcastState);
+        end(repo.findIdsPlayingToEnding(now));
+
+        // 3) ENDING -> CLOSED (남은 시청 기록 일괄 퇴장 처리)
+        close(repo.findIdsEndingToClosed(now.minusMinutes(10)));
+    }
+
+    /**
+     * 메모리 상태를 DB 와 대조 (모든 노드)
+     * - 다른 노드에서 생성 / 수정되어 이 노드 타이머에 없는 일정, 이 노드가 꺼져 있던 동안의 전이 보정
+     * - 최근 CLOSED 된 일정: 리더의 보정 점검 지연을 고려해 reconcile-ms 3회분 구간을 다시 확인 (이미 정리된 일정은 변화 없음)
+     */
+    private void syncLocal() {
+        syncTicker.track(repo.findAllByStatus(PLAYING));
+        List<Long> tracked = syncTicker.trackedIds();
+        if (!tracked.isEmpty()) {
+            // 리더가 아직 PLAYING 으로 바꾸지 않은 WAITING 일정은 유지
+            Set<Long> open = new HashSet<>(repo.findIdsByIdInAndStatusIn(tracked, OPEN));
+            syncTicker.untrack(tracked.stream().filter(id -> !open.contains(id)).toList());
+        }
+
+        LocalDateTime closedBefore = LocalDateTime.now().minusMinutes(10);
+        evictLocal(repo.findIdsClosedEndedBetween(
+                closedBefore.minus(Duration.ofMillis(3 * reconcileMs)), closedBefore));
+    }
+
+    /**
+     * 타이머 휠에서 만료된 전이 처리 (현재 상태가 맞는 일정만, 그 사이 삭제 / 수정된 일정은 제외됨)
+     * - 리더: DB 상태 변경 + 메모리 상태 반영
+     * - 그 외 노드: 같은 시각에 만료된 자기 타이머로 메모리 상태만 반영
+     */
+    @Transactional
+    public void fire(ScheduleStatus to, Collection<Long> scheduleIds) {
+        if (scheduleIds.isEmpty()) {
+            return;
         }
+        if (!jobLeaseService.isLeader(JobLeaseService.SCHEDULE_STATUS)) {
+            fireLocal(to, repo.findIdsByIdInAndStatusIn(scheduleIds, FROM_OR_TO.get(to)));
+            return;
+        }
+        List<Long> ids = repo.findIdsByIdInAndStatusIn(scheduleIds, FROM.get(to));
+        switch (to) {
+            case WAITING -> open(ids);
+            case PLAYING -> start(ids);
+            case ENDING -> end(ids);
+            case CLOSED -> close(ids);
+        }
+    }
+
+    private void fireLocal(ScheduleStatus to, List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        switch (to) {
+            case WAITING -> playbackService.preload(ids);
+            case PLAYING -> syncTicker.track(repo.findAllById(ids));
+            case ENDING -> syncTicker.untrack(ids);
+            case CLOSED -> evictLocal(ids);
+        }
+    }
+
+    private void open(List<Long> toWaiting) {
+        if (toWaiting.isEmpty()) {
+            return;
+        }
+        repo.updateStatusByIds(WAITING, toWaiting);
+        playbackService.preload(toWaiting);
+    }
+
+    private void start(List<Long> toPlaying) {
+        if (toPlaying.isEmpty()) {
+            return;
+        }
+        repo.updateStatusByIds(PLAYING, toPlaying);
+        List<ScheduleItem> items = repo.findAllById(toPlaying);
+        syncTicker.track(items);
+        broadcaster.broadcastStates(items);
+    }
+
+    private void end(List<Long> toEnding) {
+        if (toEnding.isEmpty()) {
+            return;
+        }
+        repo.updateStatusByIds(ENDING, toEnding);
+        syncTicker.untrack(toEnding);
+        broadcaster.broadcastStates(repo.findAllById(toEnding));
+    }
+
+    private void close(List<Long> toClosed) {
+        if (toClosed.isEmpty()) {
+            return;
+        }
+        repo.updateStatusByIds(CLOSED, toClosed);
+        sessionReaper.closeSchedules(toClosed);
+        broadcaster.broadcastStates(repo.findAllById(toClosed));
+        evictLocal(toClosed);
+    }
 
-        // 3) ENDING -> CLOSED
-        var toClosed = repo.findIdsEndingToClosed(now.minusMinutes(10));
-        if (!toClosed.isEmpty()) {
-            repo.updateStatusByIds(CLOSED, toClosed);
-            toClosed.forEach(broadcaster::broadcastState);
+    /**
+     * 상영 종료(CLOSED)된 상영관의 노드 메모리 상태 정리
+     */
+    private void evictLocal(List<Long> closed) {
+        if (closed.isEmpty()) {
+            return;
         }
+        syncTicker.untrack(closed);
+        presenceRegistry.evict(closed);
+        broadcaster.evict(closed);
+        chatHistory.evict(closed);
+        playbackService.evict(closed);
+        livePlaylistService.evict(closed);
+        admissionService.evict(closed);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,172 @@
+package com.example.cinema.config;
+
+import com.example.cinema.entity.ScheduleItem;
+import com.example.cinema.repository.schedule.ScheduleItemRepository;
+import com.example.cinema.type.ScheduleStatus;
+import com.example.cinema.util.HierarchicalTimerWheel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.example.cinema.util.TransactionUtil.afterCommit;
+
+/**
+ * 상영 일정 상태 전이 타이머 (계층형 타이머 휠)
+ * - horizon 안에 걸친 일정의 경계 시각(시작 10분 전 / 시작 / 종료 / 종료 10분 후)을 휠에 등록하고 정시에 전이
+ * - 일정 생성 / 수정 / 삭제 시 커밋 후 해당 일정만 다시 등록 (ScheduleService)
+ * - 수정 / 삭제된 일정의 이전 타이머는 버전이 달라 무시됨
+ * - 기동 시와 reload-ms 마다 DB 에서 horizon 구간을 다시 읽어 새로 들어온 일정 / 다른 노드 변경분 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleTransitionTimer {
+
+    private static final long OPEN_BEFORE_MS = 10 * 60 * 1000L;
+    private static final long CLOSE_AFTER_MS = 10 * 60 * 1000L;
+
+    private final ScheduleItemRepository scheduleItemRepository;
+    private final ScheduleStatusScheduler statusScheduler;
+
+    @Value("${theater.timer.tick-ms:100}")
+    private long tickMs = 100;
+
+    @Value("${theater.timer.horizon-ms:7200000}")
+    private long horizonMs = 7_200_000;
+
+    private record Timer(long scheduleId, long version, ScheduleStatus to) {
+    }
+
+    private record Registration(long version, long startAtMs, long endAtMs) {
+    }
+
+    /** scheduleId -> 현재 유효한 등록 (버전이 다른 타이머는 무시) */
+    private final ConcurrentHashMap<Long, Registration> registrations = new ConcurrentHashMap<>();
+    private final AtomicLong versions = new AtomicLong();
+
+    /** this 로 보호 */
+    private HierarchicalTimerWheel<Timer> wheel;
+
+    /**
+     * horizon 구간 일정 적재 (기동 시 + reload-ms 마다)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${theater.timer.reload-ms:600000}", fixedDelayString = "${theater.timer.reload-ms:600000}")
+    public void reload() {
+        long now = System.currentTimeMillis();
+        List<ScheduleItem> items = scheduleItemRepository.findAllOverlapping(
+                toLocalDateTime(now - CLOSE_AFTER_MS), toLocalDateTime(now + horizonMs));
+        for (ScheduleItem item : items) {
+            register(item.getScheduleItemId(), toEpochMs(item.getStartAt()), toEpochMs(item.getEndAt()), now);
+        }
+        registrations.values().removeIf(r -> r.endAtMs() + CLOSE_AFTER_MS < now);
+        log.info("Schedule transition timer loaded: schedules={}, timers={}", registrations.size(), timers());
+    }
+
+    /**
+     * 일정 생성 / 수정 후 호출 (트랜잭션 중이면 커밋 후 반영)
+     */
+    public void register(long scheduleId, LocalDateTime startAt, LocalDateTime endAt) {
+        afterCommit(() -> register(scheduleId, toEpochMs(startAt), toEpochMs(endAt), System.currentTimeMillis()));
+    }
+
+    /**
+     * 일정 삭제 후 호출 (트랜잭션 중이면 커밋 후 반영)
+     */
+    public void cancel(long scheduleId) {
+        afterCommit(() -> registrations.remove(scheduleId));
+    }
+
+    /**
+     * 만료된 타이머를 상태별로 모아 전이 (WAITING → PLAYING → ENDING → CLOSED 순)
+     */
+    @Scheduled(fixedRateString = "${theater.timer.tick-ms:100}")
+    public void advance() {
+        List<Timer> expired;
+        synchronized (this) {
+            if (wheel == null) {
+                return;
+            }
+            expired = wheel.advance(System.currentTimeMillis());
+        }
+        if (expired.isEmpty()) {
+            return;
+        }
+
+        Map<ScheduleStatus, List<Long>> due = new EnumMap<>(ScheduleStatus.class);
+        for (Timer timer : expired) {
+            Registration registration = registrations.get(timer.scheduleId());
+            if (registration == null || registration.version() != timer.version()) {
+                continue;
+            }
+            due.computeIfAbsent(timer.to(), s -> new ArrayList<>()).add(timer.scheduleId());
+            if (timer.to() == ScheduleStatus.CLOSED) {
+                registrations.remove(timer.scheduleId(), registration);
+            }
+        }
+        due.forEach((to, scheduleIds) -> {
+            try {
+                statusScheduler.fire(to, scheduleIds);
+            } catch (RuntimeException e) {
+                // 놓친 전이는 ScheduleStatusScheduler.tick 이 보정
+                log.warn("Schedule transition failed: to={}, ids={}, err={}", to, scheduleIds, e.getMessage());
+            }
+        });
+    }
+
+    private void register(long scheduleId, long startAtMs, long endAtMs, long now) {
+        if (startAtMs > now + horizonMs || endAtMs + CLOSE_AFTER_MS <= now) {
+            // horizon 밖 (이후 reload 에서 적재) 또는 이미 끝난 일정
+            registrations.remove(scheduleId);
+            return;
+        }
+        Registration current = registrations.get(scheduleId);
+        if (current != null && current.startAtMs() == startAtMs && current.endAtMs() == endAtMs) {
+            return;
+        }
+
+        long version = versions.incrementAndGet();
+        registrations.put(scheduleId, new Registration(version, startAtMs, endAtMs));
+        synchronized (this) {
+            if (wheel == null) {
+                // bits 6, 4 레벨 → tick-ms 100 기준 약 19일 범위
+                wheel = new HierarchicalTimerWheel<>(tickMs, 6, 4, now);
+            }
+            if (startAtMs > now) {
+                // 시작 10분 전이 이미 지났으면 바로 WAITING
+                wheel.add(Math.max(startAtMs - OPEN_BEFORE_MS, now), new Timer(scheduleId, version, ScheduleStatus.WAITING));
+                wheel.add(startAtMs, new Timer(scheduleId, version, ScheduleStatus.PLAYING));
+            }
+            if (endAtMs > now) {
+                wheel.add(endAtMs, new Timer(scheduleId, version, ScheduleStatus.ENDING));
+            }
+            wheel.add(endAtMs + CLOSE_AFTER_MS, new Timer(scheduleId, version, ScheduleStatus.CLOSED));
+        }
+    }
+
+    private synchronized int timers() {
+        return wheel == null ? 0 : wheel.size();
+    }
+
+    private static long toEpochMs(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMs) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMs), ZoneId.systemDefault());
+    }
+}
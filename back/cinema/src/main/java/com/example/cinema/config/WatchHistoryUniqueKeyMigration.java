@@ -0,0 +1,128 @@
+package com.example.cinema.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * watch_histories (user_id, schedule_item_id) 유니크 키 보장
+ * - 입장 upsert(ON DUPLICATE KEY UPDATE)가 이 키에 의존하지만, ddl-auto=update 는 기존 테이블에
+ *   중복 행이 있으면 키 추가에 실패해도 경고만 남기고 기동함
+ * - 기동 시(Hibernate 스키마 반영 직후, 요청을 받기 전) 키가 없으면 중복 정리 후 키 추가
+ *   · 그룹마다 리뷰가 달린 기록(없으면 가장 최근 기록) 1건만 남김 (기존 입장 로직도 최근 기록을 재사용)
+ *   · 조회수에 반영된 기록이 있던 그룹은 남긴 기록도 반영 완료로 표시 (중복 집계 방지)
+ * - 한 그룹에 리뷰가 2건 이상이면 자동 정리하지 않고 기동 실패 (수동 정리 필요)
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+public class WatchHistoryUniqueKeyMigration {
+
+    static final String TABLE = "watch_histories";
+    static final String KEY_NAME = "uk_watch_histories_user_schedule";
+    private static final Set<String> KEY_COLUMNS = Set.of("user_id", "schedule_item_id");
+
+    /** 중복 그룹별 남길 기록 id + 조회수 반영 여부 */
+    private static final String DUPLICATE_GROUPS = """
+            SELECT w.user_id, w.schedule_item_id,
+                   COALESCE(MAX(CASE WHEN r.review_id IS NOT NULL THEN w.watch_id END), MAX(w.watch_id)) AS keep_id,
+                   MAX(CASE WHEN w.view_counted THEN 1 ELSE 0 END) AS counted
+            FROM watch_histories w
+            LEFT JOIN reviews r ON r.watch_id = w.watch_id
+            GROUP BY w.user_id, w.schedule_item_id
+            HAVING COUNT(*) > 1
+            """;
+
+    private static final String COUNT_REVIEW_CONFLICTS = """
+            SELECT COUNT(*) FROM (
+                SELECT 1
+                FROM watch_histories w
+                JOIN reviews r ON r.watch_id = w.watch_id
+                GROUP BY w.user_id, w.schedule_item_id
+                HAVING COUNT(*) > 1
+            ) c
+            """;
+
+    private static final String MARK_KEPT_COUNTED = "UPDATE watch_histories w JOIN (" + DUPLICATE_GROUPS + ") d"
+            + " ON w.watch_id = d.keep_id SET w.view_counted = TRUE WHERE d.counted = 1";
+
+    private static final String DELETE_DUPLICATES = "DELETE w FROM watch_histories w JOIN (" + DUPLICATE_GROUPS + ") d"
+            + " ON w.user_id = d.user_id AND w.schedule_item_id = d.schedule_item_id WHERE w.watch_id <> d.keep_id";
+
+    private static final String ADD_KEY = "ALTER TABLE watch_histories ADD CONSTRAINT " + KEY_NAME
+            + " UNIQUE (user_id, schedule_item_id)";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate txTemplate;
+
+    public WatchHistoryUniqueKeyMigration(DataSource dataSource, PlatformTransactionManager txManager) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.txTemplate = new TransactionTemplate(txManager);
+    }
+
+    @PostConstruct
+    void migrate() throws SQLException {
+        if (hasUniqueKey()) {
+            return;
+        }
+        Long conflicts = jdbcTemplate.queryForObject(COUNT_REVIEW_CONFLICTS, Long.class);
+        if (conflicts != null && conflicts > 0) {
+            throw new IllegalStateException(KEY_NAME + " 를 추가할 수 없습니다: 리뷰가 2건 이상 달린 중복 시청 기록 그룹 "
+                    + conflicts + "개를 먼저 정리해야 합니다.");
+        }
+
+        int[] cleaned = txTemplate.execute(status -> new int[]{
+                jdbcTemplate.update(MARK_KEPT_COUNTED),
+                jdbcTemplate.update(DELETE_DUPLICATES)
+        });
+        try {
+            jdbcTemplate.execute(ADD_KEY);
+        } catch (DataAccessException e) {
+            // 다른 노드가 동시에 추가한 경우
+            if (!hasUniqueKey()) {
+                throw new IllegalStateException(KEY_NAME + " 추가에 실패했습니다.", e);
+            }
+        }
+        log.warn("Watch history unique key added: key={}, markedCounted={}, deletedDuplicates={}",
+                KEY_NAME, cleaned[0], cleaned[1]);
+    }
+
+    /**
+     * (user_id, schedule_item_id) 로만 이루어진 유니크 인덱스 존재 여부 (인덱스 이름은 DB 마다 달라 컬럼으로 판단)
+     */
+    private boolean hasUniqueKey() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData meta = connection.getMetaData();
+            Map<String, Set<String>> uniqueIndexes = new HashMap<>();
+            for (String table : new String[]{TABLE, TABLE.toUpperCase()}) {
+                try (ResultSet rs = meta.getIndexInfo(connection.getCatalog(), null, table, true, false)) {
+                    while (rs.next()) {
+                        String index = rs.getString("INDEX_NAME");
+                        String column = rs.getString("COLUMN_NAME");
+                        if (index != null && column != null) {
+                            uniqueIndexes.computeIfAbsent(index, k -> new TreeSet<>()).add(column.toLowerCase());
+                        }
+                    }
+                }
+            }
+            return uniqueIndexes.values().stream().anyMatch(KEY_COLUMNS::equals);
+        }
+    }
+}
@@ -23,15 +23,21 @@ import java.util.stream.Collectors;
 public class JwtTokenProvider {
 
     private final Key key;
+    /** 서명 키가 고정이므로 파서를 한 번만 만들어 공유 (JwtParser 는 불변, thread-safe) */
+    private final JwtParser jwtParser;
     private final CustomUserDetailsService customUserDetailsService;
+    private final PrincipalCache principalCache;
     private static final String AUTHORITIES_KEY = "auth";
     private static final long ACCESS_TOKEN_EXPIRE_TIME = 1000 * 60 * 30; // 30 mins
     private static final long REFRESH_TOKEN_EXPIRE_TIME = 1000 * 60 * 60 * 24 * 7; // 7 days
 
-    public JwtTokenProvider(@Value("${jwt.secret}") String secretKey, CustomUserDetailsService customUserDetailsService) {
+    public JwtTokenProvider(@Value("${jwt.secret}") String secretKey, CustomUserDetailsService customUserDetailsService,
+                            PrincipalCache principalCache) {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
         this.customUserDetailsService = customUserDetailsService;
+        this.principalCache = principalCache;
     }
 
     public String generateToken(Authentication authentication) {
@@ -59,8 +65,13 @@ public class JwtTokenProvider {
     }
 
     public Authentication getAuthentication(String accessToken) {
-        Claims claims = parseClaims(accessToken);
+        return getAuthentication(parseClaims(accessToken));
+    }
 
+    /**
+     * 이미 검증된 claims 로 인증 객체 생성 (서명 재검증 없음)
+     */
+    public Authentication getAuthentication(Claims claims) {
         if (claims.get(AUTHORITIES_KEY) == null) {
             throw new RuntimeException("Token has no authority information.");
         }
@@ -70,16 +81,26 @@ public class JwtTokenProvider {
                         .map(SimpleGrantedAuthority::new)
                         .collect(Collectors.toList());
 
-        // DB에서 사용자 정보 조회하여 CustomUserDetails 반환
-        UserDetails principal = customUserDetailsService.loadUserByUsername(claims.getSubject());
+        // 같은 토큰(subject + 만료 시각)이면 캐시된 사용자 정보 사용, 없을 때만 DB 조회
+        String subject = claims.getSubject();
+        long expiresAt = claims.getExpiration() == null ? 0L : claims.getExpiration().getTime();
+        UserDetails principal = principalCache.get(subject, expiresAt,
+                () -> customUserDetailsService.loadUserByUsername(subject));
         
         return new UsernamePasswordAuthenticationToken(principal, "", authorities);
     }
 
     public boolean validateToken(String token) {
+        return verifyClaims(token) != null;
+    }
+
+    /**
+     * 서명을 한 번 검증하고 claims 반환 (유효하지 않으면 null, 만료 시 ExpiredJwtException)
+     * 필터/STOMP CONNECT 에서는 validateToken + getAuthentication(String) 대신 이 결과를 getAuthentication(Claims)에 넘김
+     */
+    public Claims verifyClaims(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.info("Invalid JWT Token", e);
         } catch (ExpiredJwtException e) {
@@ -90,12 +111,12 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.info("JWT claims string is empty.", e);
         }
-        return false;
+        return null;
     }
 
     private Claims parseClaims(String accessToken) {
         try {
-            return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken).getBody();
+            return jwtParser.parseClaimsJws(accessToken).getBody();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
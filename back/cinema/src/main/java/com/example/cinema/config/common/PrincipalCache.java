@@ -0,0 +1,64 @@
+package com.example.cinema.config.common;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static com.example.cinema.util.TransactionUtil.nowAndAfterCommit;
+
+/**
+ * JWT 인증 사용자(Principal) 캐시
+ * - 키: 토큰 subject(email) + 토큰 만료 시각 → 같은 토큰으로 들어오는 요청/CONNECT 는 DB 조회 없이 인증
+ * - 항목은 토큰 만료 시각 또는 ttl 중 빠른 시점까지만 유효
+ * - max-size 초과 시 만료 항목을 정리하고, 그래도 가득 차 있으면 캐시하지 않고 조회 결과만 반환
+ * - 로그아웃 / 탈퇴 / 프로필 변경 / 판매자 전환 시 evict (트랜잭션 중이면 커밋 후 한 번 더 제거)
+ */
+@Component
+public class PrincipalCache {
+
+    private record Key(String subject, long tokenExpiresAt) {
+    }
+
+    private record Entry(UserDetails principal, long expiresAt) {
+    }
+
+    private final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    @Value("${auth.principal-cache.max-size:10000}")
+    private int maxSize = 10_000;
+
+    @Value("${auth.principal-cache.ttl-ms:300000}")
+    private long ttlMs = 300_000;
+
+    public UserDetails get(String subject, long tokenExpiresAt, Supplier<UserDetails> loader) {
+        Key key = new Key(subject, tokenExpiresAt);
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt() > now) {
+            return entry.principal();
+        }
+
+        UserDetails principal = loader.get();
+        if (entries.size() >= maxSize) {
+            entries.values().removeIf(e -> e.expiresAt() <= now);
+        }
+        if (entries.size() < maxSize) {
+            entries.put(key, new Entry(principal, Math.min(tokenExpiresAt, now + ttlMs)));
+        }
+        return principal;
+    }
+
+    /**
+     * 해당 사용자의 모든 토큰에 대한 캐시 제거
+     */
+    public void evict(String subject) {
+        nowAndAfterCommit(() -> entries.keySet().removeIf(key -> key.subject().equals(subject)));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+}
@@ -132,6 +132,11 @@ public class ProjectSecurityConfig {
                                 "/admin/platform-revenue/**"
                         ).permitAll()
 
+                        // 주기 작업 리더 현황
+                        .requestMatchers(HttpMethod.GET,
+                                "/admin/job-leases"
+                        ).authenticated()
+
                         // 상영 스케줄 / 상영관
                         .requestMatchers(
                                 "/schedules/**",
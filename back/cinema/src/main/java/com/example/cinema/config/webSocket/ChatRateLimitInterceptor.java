@@ -0,0 +1,109 @@
+package com.example.cinema.config.webSocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 채팅 전송 속도 제한 (clientInboundChannel, 컨트롤러 실행 전)
+ * - /app/chat/{scheduleId} SEND 에 대해 사용자별, 상영관별 토큰 버킷을 모두 통과해야 전달
+ * - 초과 시 policy=DROP 이면 조용히 버림, ERROR 이면 StompErrorHandler 를 통해 ERROR 프레임 전송
+ * - 세션 종료 시 해당 사용자 버킷 정리, 충전이 끝난(유휴) 버킷은 주기적으로 정리
+ */
+@Slf4j
+@Component
+public class ChatRateLimitInterceptor implements ChannelInterceptor {
+
+    public enum Policy { DROP, ERROR }
+
+    private static final String CHAT_PREFIX = "/app/chat/";
+
+    private final ConcurrentHashMap<Long, TokenBucket> users = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, TokenBucket> rooms = new ConcurrentHashMap<>();
+    private final LongAdder rejected = new LongAdder();
+
+    @Value("${websocket.chat-limit.policy:DROP}")
+    private Policy policy = Policy.DROP;
+
+    @Value("${websocket.chat-limit.user.rate-per-sec:2}")
+    private double userRate = 2;
+
+    @Value("${websocket.chat-limit.user.burst:5}")
+    private int userBurst = 5;
+
+    @Value("${websocket.chat-limit.room.rate-per-sec:50}")
+    private double roomRate = 50;
+
+    @Value("${websocket.chat-limit.room.burst:100}")
+    private int roomBurst = 100;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || !StompCommand.SEND.equals(accessor.getCommand())) {
+            return message;
+        }
+        Long scheduleId = scheduleIdOf(accessor.getDestination());
+        if (scheduleId == null) {
+            return message;
+        }
+
+        StompUserPrincipal principal = StompUserPrincipal.of(accessor.getSessionAttributes());
+        boolean allowed = (principal == null
+                || users.computeIfAbsent(principal.getUserId(), id -> new TokenBucket(userRate, userBurst)).tryConsume())
+                && rooms.computeIfAbsent(scheduleId, id -> new TokenBucket(roomRate, roomBurst)).tryConsume();
+        if (allowed) {
+            return message;
+        }
+
+        rejected.increment();
+        if (policy == Policy.ERROR) {
+            throw new IllegalArgumentException("채팅 전송 한도를 초과했습니다.");
+        }
+        return null;
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        StompUserPrincipal principal = StompUserPrincipal.of(StompHeaderAccessor.wrap(event.getMessage()).getSessionAttributes());
+        if (principal != null) {
+            // 한도 초과 상태에서 재접속으로 초기화되지 않도록 유휴 버킷만 제거
+            users.computeIfPresent(principal.getUserId(), (id, bucket) -> bucket.isIdle() ? null : bucket);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${websocket.chat-limit.sweep-ms:60000}")
+    public void sweep() {
+        users.values().removeIf(TokenBucket::isIdle);
+        rooms.values().removeIf(TokenBucket::isIdle);
+        log.debug("Chat rate limit: rejected={}, users={}, rooms={}", rejected.sum(), users.size(), rooms.size());
+    }
+
+    private static Long scheduleIdOf(String destination) {
+        if (destination == null || !destination.startsWith(CHAT_PREFIX)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(destination.substring(CHAT_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
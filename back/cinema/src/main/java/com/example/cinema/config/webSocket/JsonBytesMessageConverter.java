@@ -0,0 +1,33 @@
+package com.example.cinema.config.webSocket;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.AbstractMessageConverter;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 미리 직렬화된 JSON(byte[]) 페이로드를 그대로 전송하는 컨버터
+ * - Jackson 을 다시 거치지 않고 content-type 만 application/json 으로 지정
+ * - 상태 스냅샷처럼 한 번 직렬화한 버퍼를 여러 목적지/세션에 재사용할 때 사용
+ */
+public class JsonBytesMessageConverter extends AbstractMessageConverter {
+
+    public JsonBytesMessageConverter() {
+        super(MimeTypeUtils.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return byte[].class == clazz;
+    }
+
+    @Override
+    protected Object convertFromInternal(Message<?> message, Class<?> targetClass, Object conversionHint) {
+        return message.getPayload();
+    }
+
+    @Override
+    protected Object convertToInternal(Object payload, MessageHeaders headers, Object conversionHint) {
+        return payload;
+    }
+}
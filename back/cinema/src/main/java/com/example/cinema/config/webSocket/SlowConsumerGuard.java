@@ -0,0 +1,195 @@
+package com.example.cinema.config.webSocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 느린 소비자(Slow consumer) 보호
+ * - 세션별 소켓 쓰기가 threshold 이상 멈춰 있으면 해당 세션으로 가는 브로드캐스트(MESSAGE)를
+ *   outbound 채널에 넣기 전에 드롭(drop)하거나 세션을 끊음(disconnect)
+ * - send-time-limit / send-buffer-size-limit 초과 시에는 Spring 이 세션을 종료 (evict)
+ * - outbound 큐가 가득 차면 MESSAGE 는 드롭, 그 외 제어 프레임(CONNECTED / RECEIPT / ERROR 등)은 세션 종료
+ * - 드롭된 프레임 / 퇴출된 세션 수를 집계하여 주기적으로 로그 출력
+ */
+@Slf4j
+@Component
+public class SlowConsumerGuard implements ChannelInterceptor, WebSocketHandlerDecoratorFactory {
+
+    public enum Policy { DROP, DISCONNECT }
+
+    private final ConcurrentHashMap<String, TrackedSession> sessions = new ConcurrentHashMap<>();
+
+    private final LongAdder droppedFrames = new LongAdder();
+    private final LongAdder rejectedFrames = new LongAdder();
+    private final LongAdder evictedSessions = new LongAdder();
+
+    private long lastReportedDropped;
+    private long lastReportedEvicted;
+
+    @Value("${websocket.slow-consumer.policy:DROP}")
+    private Policy policy;
+
+    @Value("${websocket.slow-consumer.threshold-ms:2000}")
+    private long thresholdMs;
+
+    /**
+     * outbound 채널 진입 전 검사 (브로커 스레드에서 실행되므로 executor 큐에 쌓이기 전에 걸러짐)
+     */
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        if (accessor.getMessageType() != SimpMessageType.MESSAGE || accessor.getSessionId() == null) {
+            return message;
+        }
+        TrackedSession session = sessions.get(accessor.getSessionId());
+        if (session == null || session.stalledMillis() < thresholdMs) {
+            return message;
+        }
+
+        if (policy == Policy.DISCONNECT) {
+            session.evict();
+        }
+        droppedFrames.increment();
+        return null;
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                TrackedSession tracked = new TrackedSession(session);
+                sessions.put(session.getId(), tracked);
+                super.afterConnectionEstablished(tracked);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                TrackedSession tracked = sessions.remove(session.getId());
+                // send-time / buffer 한도 초과로 Spring 이 종료한 경우도 퇴출로 집계
+                if (CloseStatus.SESSION_NOT_RELIABLE.equalsCode(closeStatus)
+                        && (tracked == null || !tracked.evicted)) {
+                    evictedSessions.increment();
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    /**
+     * outbound executor 큐가 가득 찼을 때 (메모리 증가 방지)
+     */
+    public RejectedExecutionHandler discardAndCount() {
+        return (task, executor) -> recordRejected(task);
+    }
+
+    /**
+     * 큐에 넣지 못한 프레임 처리
+     * - MESSAGE(브로드캐스트)는 버리고 집계 (다음 상태 / 채팅 프레임으로 회복 가능)
+     * - CONNECTED / RECEIPT / ERROR 등 나머지 프레임은 버리면 클라이언트가 응답을 기다리며 멈추므로 세션을 끊음
+     */
+    public void recordRejected(Runnable task) {
+        rejectedFrames.increment();
+        if (!(task instanceof MessageHandlingRunnable handling)) {
+            return;
+        }
+        Message<?> message = handling.getMessage();
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        StompCommand command = accessor.getCommand();
+        boolean broadcast = accessor.getMessageType() == SimpMessageType.MESSAGE
+                && (command == null || command == StompCommand.MESSAGE);
+        if (broadcast || accessor.getSessionId() == null) {
+            return;
+        }
+        TrackedSession session = sessions.get(accessor.getSessionId());
+        if (session != null) {
+            log.warn("Outbound queue full, closing session for dropped control frame: sessionId={}, type={}, command={}",
+                    accessor.getSessionId(), accessor.getMessageType(), command);
+            session.evict();
+        }
+    }
+
+    public long getDroppedFrames() {
+        return droppedFrames.sum() + rejectedFrames.sum();
+    }
+
+    public long getEvictedSessions() {
+        return evictedSessions.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${websocket.slow-consumer.report-ms:60000}")
+    public void report() {
+        long dropped = getDroppedFrames();
+        long evicted = getEvictedSessions();
+        if (dropped == lastReportedDropped && evicted == lastReportedEvicted) {
+            return;
+        }
+        log.info("WebSocket slow consumer: droppedFrames={} (stalled={}, queueFull={}), evictedSessions={}, sessions={}",
+                dropped, droppedFrames.sum(), rejectedFrames.sum(), evicted, sessions.size());
+        lastReportedDropped = dropped;
+        lastReportedEvicted = evicted;
+    }
+
+    /**
+     * 실제 소켓 쓰기 시작 시각을 기록하는 세션 래퍼
+     */
+    private final class TrackedSession extends WebSocketSessionDecorator {
+
+        private volatile long sendStartedAt;
+        private volatile boolean evicted;
+
+        TrackedSession(WebSocketSession delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            sendStartedAt = System.currentTimeMillis();
+            try {
+                super.sendMessage(message);
+            } finally {
+                sendStartedAt = 0L;
+            }
+        }
+
+        long stalledMillis() {
+            long startedAt = sendStartedAt;
+            return startedAt == 0L ? 0L : System.currentTimeMillis() - startedAt;
+        }
+
+        void evict() {
+            if (evicted) {
+                return;
+            }
+            evicted = true;
+            evictedSessions.increment();
+            try {
+                getDelegate().close(CloseStatus.SESSION_NOT_RELIABLE);
+            } catch (IOException e) {
+                log.debug("Slow consumer close failed: sessionId={}, err={}", getId(), e.getMessage());
+            }
+        }
+    }
+}
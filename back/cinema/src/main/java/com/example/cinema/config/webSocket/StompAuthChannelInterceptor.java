@@ -1,6 +1,8 @@
 package com.example.cinema.config.webSocket;
 
+import com.example.cinema.config.common.CustomUserDetails;
 import com.example.cinema.config.common.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
@@ -13,6 +15,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Component
@@ -20,6 +23,7 @@ import java.util.List;
 public class StompAuthChannelInterceptor implements ChannelInterceptor {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final StompPrincipalRegistry principalRegistry;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -44,14 +48,21 @@ public class StompAuthChannelInterceptor implements ChannelInterceptor {
                 throw new IllegalArgumentException("Missing or invalid Authorization header");
             }
             
-            if (!jwtTokenProvider.validateToken(token)) {
+            Claims claims = jwtTokenProvider.verifyClaims(token);
+            if (claims == null) {
                 log.warn("WebSocket CONNECT rejected: Invalid JWT token");
                 throw new IllegalArgumentException("Invalid JWT token");
             }
 
             try {
-                Authentication authentication = jwtTokenProvider.getAuthentication(token);
+                Authentication authentication = jwtTokenProvider.getAuthentication(claims);
                 accessor.setUser(authentication);
+
+                // 채팅 등에서 메시지마다 DB 조회하지 않도록 세션 단위로 사용자 정보 고정
+                Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+                if (sessionAttributes != null && authentication.getPrincipal() instanceof CustomUserDetails details) {
+                    principalRegistry.register(accessor.getSessionId(), sessionAttributes, StompUserPrincipal.from(details));
+                }
                 log.info("WebSocket CONNECT authenticated: {}", authentication.getName());
             } catch (Exception e) {
                 log.error("WebSocket CONNECT failed to get authentication: {}", e.getMessage());
@@ -18,7 +18,7 @@ public class StompErrorHandler extends StompSubProtocolErrorHandler {
     public Message<byte[]> handleClientMessageProcessingError(Message<byte[]> clientMessage, Throwable ex) {
         log.error("STOMP Error: {}", ex.getMessage());
 
-        // 인증 관련 에러인 경우 ERROR 프레임 전송
+        // 인증 / 채팅 전송 한도 초과 등 요청 거부인 경우 ERROR 프레임 전송
         if (ex.getCause() instanceof IllegalArgumentException) {
             return createErrorMessage(ex.getCause().getMessage());
         }
@@ -0,0 +1,70 @@
+package com.example.cinema.config.webSocket;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 STOMP 세션 attributes 추적
+ * - CONNECT 시 등록, DISCONNECT 시 제거
+ * - 프로필(닉네임) 변경 시 해당 사용자의 모든 세션 Principal 을 교체
+ */
+@Component
+public class StompPrincipalRegistry {
+
+    /** sessionId -> 세션 attributes */
+    private final ConcurrentHashMap<String, Map<String, Object>> sessions = new ConcurrentHashMap<>();
+
+    /** userId -> sessionId 목록 */
+    private final ConcurrentHashMap<Long, Set<String>> sessionsByUser = new ConcurrentHashMap<>();
+
+    public void register(String sessionId, Map<String, Object> attributes, StompUserPrincipal principal) {
+        attributes.put(StompUserPrincipal.ATTR_KEY, principal);
+        sessions.put(sessionId, attributes);
+        sessionsByUser.computeIfAbsent(principal.getUserId(), id -> ConcurrentHashMap.newKeySet()).add(sessionId);
+    }
+
+    /**
+     * 닉네임 변경 반영 (다음 채팅부터 새 닉네임 사용)
+     */
+    public void updateNickname(Long userId, String nickname) {
+        Set<String> sessionIds = sessionsByUser.get(userId);
+        if (sessionIds == null) {
+            return;
+        }
+        for (String sessionId : sessionIds) {
+            Map<String, Object> attributes = sessions.get(sessionId);
+            if (attributes == null) {
+                continue;
+            }
+            attributes.computeIfPresent(StompUserPrincipal.ATTR_KEY,
+                    (key, value) -> ((StompUserPrincipal) value).withNickname(nickname));
+        }
+    }
+
+    /**
+     * 주어진 세션 외에 사용자의 다른 STOMP 세션이 남아 있는지
+     * (DISCONNECT 리스너 간 실행 순서와 무관하게 판단하도록 종료 중인 세션은 제외)
+     */
+    public boolean hasOtherSession(Long userId, String sessionId) {
+        Set<String> sessionIds = sessionsByUser.get(userId);
+        return sessionIds != null && sessionIds.stream().anyMatch(id -> !id.equals(sessionId));
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, Object> attributes = sessions.remove(event.getSessionId());
+        StompUserPrincipal principal = StompUserPrincipal.of(attributes);
+        if (principal == null) {
+            return;
+        }
+        sessionsByUser.computeIfPresent(principal.getUserId(), (id, sessionIds) -> {
+            sessionIds.remove(event.getSessionId());
+            return sessionIds.isEmpty() ? null : sessionIds;
+        });
+    }
+}
@@ -1,20 +1,62 @@
 package com.example.cinema.config.webSocket;
 
+import com.example.cinema.config.common.CustomUserDetails;
+
 import java.security.Principal;
+import java.util.Map;
 
+/**
+ * STOMP 세션 단위로 고정되는 사용자 식별 정보 (불변)
+ * - CONNECT 시 1회 생성되어 세션 attributes(ATTR_KEY)에 저장
+ * - 닉네임 변경 시 withNickname()으로 새 인스턴스를 만들어 교체
+ */
 public final class StompUserPrincipal implements Principal {
 
     public static final String ATTR_KEY = "STOMP_PRINCIPAL";
 
     private final String name;
+    private final Long userId;
+    private final String nickname;
 
-    public StompUserPrincipal(String name) {
+    public StompUserPrincipal(String name, Long userId, String nickname) {
         this.name = name;
+        this.userId = userId;
+        this.nickname = nickname;
+    }
+
+    public static StompUserPrincipal from(CustomUserDetails details) {
+        return new StompUserPrincipal(
+                details.getUsername(),
+                details.getUser().getUserId(),
+                details.getUser().getNickname()
+        );
+    }
+
+    /**
+     * 세션 attributes 에서 Principal 조회 (없으면 null)
+     */
+    public static StompUserPrincipal of(Map<String, Object> sessionAttributes) {
+        if (sessionAttributes == null) {
+            return null;
+        }
+        Object value = sessionAttributes.get(ATTR_KEY);
+        return value instanceof StompUserPrincipal principal ? principal : null;
+    }
+
+    public StompUserPrincipal withNickname(String nickname) {
+        return new StompUserPrincipal(name, userId, nickname);
     }
 
     @Override
     public String getName() {
         return name;
     }
-}
 
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getNickname() {
+        return nickname;
+    }
+}
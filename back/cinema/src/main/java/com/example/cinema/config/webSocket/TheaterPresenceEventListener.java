@@ -0,0 +1,64 @@
+package com.example.cinema.config.webSocket;
+
+import com.example.cinema.service.theater.TheaterAdmissionService;
+import com.example.cinema.service.theater.TheaterPresenceRegistry;
+import com.example.cinema.service.theater.WatchSessionReaper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * STOMP 세션 이벤트를 상영관 Presence 레지스트리에 반영
+ * - SUBSCRIBE: /topic/theaters/{id}/** 또는 /app/theaters/{id}/** 구독 시 입장으로 간주
+ * - DISCONNECT: 세션이 구독했던 상영관에서 제거, 마지막 세션이었다면 남은 시청 기록 퇴장 처리 예약
+ *   사용자의 마지막 소켓이었다면 입장 대기열에서도 제거 (대기 순번 / 입장권 푸시를 받을 수 없으므로)
+ */
+@Component
+@RequiredArgsConstructor
+public class TheaterPresenceEventListener {
+
+    private static final Pattern THEATER_DESTINATION = Pattern.compile("^/(?:topic|app)/theaters/(\\d+)(?:/.*)?$");
+
+    private final TheaterPresenceRegistry presenceRegistry;
+    private final WatchSessionReaper sessionReaper;
+    private final TheaterAdmissionService admissionService;
+    private final StompPrincipalRegistry principalRegistry;
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Long scheduleId = scheduleIdOf(accessor.getDestination());
+        StompUserPrincipal principal = StompUserPrincipal.of(accessor.getSessionAttributes());
+        if (scheduleId == null || principal == null || accessor.getSessionId() == null) {
+            return;
+        }
+        presenceRegistry.sessionJoined(accessor.getSessionId(), scheduleId, principal.getUserId());
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        TheaterPresenceRegistry.Departure departure = presenceRegistry.sessionClosed(event.getSessionId());
+        if (departure != null) {
+            sessionReaper.disconnected(departure.userId(), departure.scheduleIds());
+        }
+        StompUserPrincipal principal = StompUserPrincipal.of(
+                StompHeaderAccessor.wrap(event.getMessage()).getSessionAttributes());
+        if (principal != null && !principalRegistry.hasOtherSession(principal.getUserId(), event.getSessionId())) {
+            admissionService.disconnected(principal.getUserId());
+        }
+    }
+
+    static Long scheduleIdOf(String destination) {
+        if (destination == null) {
+            return null;
+        }
+        Matcher matcher = THEATER_DESTINATION.matcher(destination);
+        return matcher.matches() ? Long.valueOf(matcher.group(1)) : null;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.cinema.config.webSocket;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free 토큰 버킷
+ * - 토큰 수 대신 "버킷이 가득 차는 시각"(theoretical arrival time, GCRA)을 AtomicLong 하나로 관리
+ * - 요청마다 CAS 1회로 소비 여부를 결정 (락/스레드 없음, 시간이 지나면 자연히 충전)
+ */
+public final class TokenBucket {
+
+    /** 토큰 1개 충전 간격 (ns) */
+    private final long intervalNanos;
+    /** 버킷 용량만큼 쌓을 수 있는 시간 (ns) */
+    private final long burstNanos;
+    private final AtomicLong fullAt;
+
+    public TokenBucket(double ratePerSecond, int burst) {
+        if (ratePerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("rate/burst 는 0보다 커야 합니다.");
+        }
+        this.intervalNanos = (long) (1_000_000_000L / ratePerSecond);
+        this.burstNanos = intervalNanos * burst;
+        this.fullAt = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * 토큰 1개 소비 시도
+     */
+    public boolean tryConsume() {
+        long now = System.nanoTime();
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + intervalNanos;
+            if (next - now > burstNanos) {
+                return false;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 버킷이 가득 찬 상태(최근 사용 없음)인지 여부 (정리 대상 판단용)
+     */
+    public boolean isIdle() {
+        return fullAt.get() - System.nanoTime() <= 0;
+    }
+}
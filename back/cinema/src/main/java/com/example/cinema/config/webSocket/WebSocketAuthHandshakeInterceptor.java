@@ -1,6 +1,8 @@
 package com.example.cinema.config.webSocket;
 
+import com.example.cinema.config.common.CustomUserDetails;
 import com.example.cinema.config.common.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
 import java.security.Principal;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
@@ -28,14 +30,17 @@ public class WebSocketAuthHandshakeInterceptor implements HandshakeInterceptor {
         String token = JwtTokens.extractBearer(auth);
 
         if (token == null) return false;
-        if (!jwtTokenProvider.validateToken(token)) return false;
+        Claims claims = jwtTokenProvider.verifyClaims(token);
+        if (claims == null) return false;
 
-        Authentication authentication = jwtTokenProvider.getAuthentication(token);
+        Authentication authentication = jwtTokenProvider.getAuthentication(claims);
 
         // STOMP에서 Principal로 쓰기 위해 attributes에 저장
         // (HandshakeHandler가 이 값을 Principal로 꺼내 쓰도록 구성되어 있어야 함)
-        Principal principal = new StompUserPrincipal(authentication.getName());
-        attributes.put(StompUserPrincipal.ATTR_KEY, principal);
+        if (authentication.getPrincipal() instanceof CustomUserDetails details) {
+            Principal principal = StompUserPrincipal.from(details);
+            attributes.put(StompUserPrincipal.ATTR_KEY, principal);
+        }
 
         // 필요하면 Authentication도 같이 저장해둘 수 있음
         attributes.put("AUTHENTICATION", authentication);
@@ -1,10 +1,22 @@
 package com.example.cinema.config.webSocket;
 
+import com.example.cinema.config.webSocket.relay.TopicRelayInterceptor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.messaging.converter.MessageConverter;
 import org.springframework.messaging.simp.config.*;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.*;
 
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
 @Configuration
 @EnableWebSocketMessageBroker
 @RequiredArgsConstructor
@@ -12,6 +24,40 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
     private final StompErrorHandler stompErrorHandler;
+    private final ChatRateLimitInterceptor chatRateLimitInterceptor;
+    private final SlowConsumerGuard slowConsumerGuard;
+    private final TopicRelayInterceptor topicRelayInterceptor;
+
+    @Value("${websocket.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;
+
+    @Value("${websocket.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${websocket.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    @Value("${websocket.inbound.pool-size:16}")
+    private int inboundPoolSize;
+
+    @Value("${websocket.inbound.queue:1000}")
+    private int inboundQueue;
+
+    @Value("${websocket.outbound.pool-size:16}")
+    private int outboundPoolSize;
+
+    @Value("${websocket.outbound.queue:10000}")
+    private int outboundQueue;
+
+    /** spring.threads.virtual.enabled=true 이면 STOMP 채널도 가상 스레드에서 처리 */
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${websocket.inbound.virtual-concurrency:2000}")
+    private int inboundVirtualConcurrency;
+
+    @Value("${websocket.outbound.virtual-concurrency:10000}")
+    private int outboundVirtualConcurrency;
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
@@ -41,11 +87,80 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         registry.setApplicationDestinationPrefixes("/app");
-        registry.enableSimpleBroker("/topic");
+        // /queue: 사용자 목적지(/user/queue/**) 용 (입장 대기 순번 등)
+        registry.enableSimpleBroker("/topic", "/queue");
+        // 다른 노드로의 /topic/theaters/** 중계
+        registry.configureBrokerChannel().interceptors(topicRelayInterceptor);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // 세션별 전송 지연/버퍼 한도 (초과 시 세션 종료) + 느린 소비자 추적
+        registration.setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit)
+                .addDecoratorFactory(slowConsumerGuard);
     }
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors(stompAuthChannelInterceptor);
+        // 인증 → 채팅 속도 제한 순 (초과 메시지는 executor 큐에 들어가기 전에 걸러짐)
+        registration.interceptors(stompAuthChannelInterceptor, chatRateLimitInterceptor);
+        if (virtualThreads) {
+            // 동시 처리 수가 한도에 도달하면 소켓 읽기 스레드가 대기 → 읽기 속도가 자연히 늦춰짐
+            registration.executor(virtualExecutor("ws-inbound-", inboundVirtualConcurrency, false));
+            return;
+        }
+        // 큐가 가득 차면 소켓 읽기 스레드에서 직접 처리 → 읽기 속도가 자연히 늦춰짐
+        registration.taskExecutor(boundedExecutor("ws-inbound-", inboundPoolSize, inboundQueue,
+                new ThreadPoolExecutor.CallerRunsPolicy()));
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(slowConsumerGuard);
+        if (virtualThreads) {
+            // 동시 전송 수가 한도에 도달하면 MESSAGE 는 버리고 집계, 제어 프레임은 세션 종료
+            Executor executor = virtualExecutor("ws-outbound-", outboundVirtualConcurrency, true);
+            TaskExecutor discarding = task -> {
+                try {
+                    executor.execute(task);
+                } catch (TaskRejectedException e) {
+                    slowConsumerGuard.recordRejected(task);
+                }
+            };
+            registration.executor(discarding);
+            return;
+        }
+        // 큐가 가득 차면 MESSAGE 는 버리고 집계, 제어 프레임은 세션 종료 (메모리 무한 증가 방지)
+        registration.taskExecutor(boundedExecutor("ws-outbound-", outboundPoolSize, outboundQueue,
+                slowConsumerGuard.discardAndCount()));
+    }
+
+    private static SimpleAsyncTaskExecutor virtualExecutor(String prefix, int concurrencyLimit, boolean rejectWhenFull) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(prefix);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        executor.setRejectTasksWhenLimitReached(rejectWhenFull);
+        return executor;
+    }
+
+    private static ThreadPoolTaskExecutor boundedExecutor(String prefix, int poolSize, int queue,
+                                                          RejectedExecutionHandler rejectedHandler) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(prefix);
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queue);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setRejectedExecutionHandler(rejectedHandler);
+        return executor;
+    }
+
+    @Override
+    public boolean configureMessageConverters(List<MessageConverter> messageConverters) {
+        // 미리 직렬화된 byte[] 는 Jackson 을 거치지 않고 application/json 으로 전송
+        messageConverters.add(new JsonBytesMessageConverter());
+        return true;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,54 @@
+package com.example.cinema.config.webSocket.relay;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 같은 JVM 안의 노드(애플리케이션 컨텍스트)끼리 공유 버스로 중계
+ * - 단일 노드 운영 시 기본값 (다른 멤버가 없으므로 사실상 no-op)
+ * - 테스트에서 여러 컨텍스트/브로커를 한 프로세스에 띄워 노드 간 전달을 검증할 때 사용
+ */
+public class InProcessTopicRelay implements TopicRelay {
+
+    private final Bus bus;
+    private volatile Consumer<RelayFrame> receiver;
+
+    public InProcessTopicRelay(Bus bus) {
+        this.bus = bus;
+    }
+
+    @Override
+    public void start(Consumer<RelayFrame> receiver) {
+        this.receiver = receiver;
+        bus.members.add(this);
+    }
+
+    @Override
+    public void publish(RelayFrame frame) {
+        for (InProcessTopicRelay member : bus.members) {
+            if (member != this && member.receiver != null) {
+                member.receiver.accept(frame);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        bus.members.remove(this);
+    }
+
+    /**
+     * 중계 멤버 집합 (shared() 는 JVM 전역 버스)
+     */
+    public static final class Bus {
+
+        private static final Bus SHARED = new Bus();
+
+        private final Set<InProcessTopicRelay> members = ConcurrentHashMap.newKeySet();
+
+        public static Bus shared() {
+            return SHARED;
+        }
+    }
+}
@@ -0,0 +1,352 @@
+package com.example.cinema.config.webSocket.relay;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.*;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * TCP 허브 방식 중계 (루프백 또는 내부망)
+ * - hub=true 인 노드가 host:port 에서 연결을 받고, 나머지 노드는 허브에 접속
+ * - 허브는 받은 프레임을 보낸 노드를 제외한 모든 접속 노드에 전달하고 자신의 로컬 브로커에도 주입
+ * - 허브 연결이 끊기면 reconnect-ms 후 재접속 (끊긴 동안의 메시지는 유실)
+ * - 접속 직후 공유 secret 으로 상호 인증 (서로 보낸 nonce 에 대한 HMAC-SHA256 교환, secret 자체는 전송하지 않음)
+ * - 피어마다 전송 큐(send-queue) + 전송 스레드를 두어 발행 스레드가 소켓 쓰기에 막히지 않도록 함
+ *   큐가 가득 차면(느린 피어) 프레임을 버리고 집계
+ * 프레임: [destination UTF][contentType UTF][payload length int][payload bytes]
+ * - payload 길이는 max-frame-bytes 로 제한 (초과 프레임은 보내지 않고, 받으면 할당 전에 연결을 끊음)
+ */
+@Slf4j
+public class TcpTopicRelay implements TopicRelay {
+
+    private static final int NONCE_BYTES = 16;
+    private static final int HANDSHAKE_TIMEOUT_MS = 5_000;
+    private static final String HUB_ROLE = "hub";
+    private static final String NODE_ROLE = "node";
+
+    private final String host;
+    private final int port;
+    private final boolean hub;
+    private final long reconnectMs;
+    private final byte[] secret;
+    private final int sendQueueCapacity;
+    private final int maxFrameBytes;
+
+    private final SecureRandom random = new SecureRandom();
+    private final Set<Peer> peers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong droppedFrames = new AtomicLong();
+
+    private volatile Consumer<RelayFrame> receiver;
+    private volatile boolean running;
+    private volatile ServerSocket server;
+
+    public TcpTopicRelay(String host, int port, boolean hub, long reconnectMs, String secret,
+                         int sendQueueCapacity, int maxFrameBytes) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException("websocket.relay.tcp.secret 이 설정되지 않았습니다.");
+        }
+        if (sendQueueCapacity < 1) {
+            throw new IllegalStateException("websocket.relay.tcp.send-queue 는 1 이상이어야 합니다: " + sendQueueCapacity);
+        }
+        if (maxFrameBytes < 1) {
+            throw new IllegalStateException("websocket.relay.tcp.max-frame-bytes 는 1 이상이어야 합니다: " + maxFrameBytes);
+        }
+        this.host = host;
+        this.port = port;
+        this.hub = hub;
+        this.reconnectMs = reconnectMs;
+        this.secret = secret.getBytes(StandardCharsets.UTF_8);
+        this.sendQueueCapacity = sendQueueCapacity;
+        this.maxFrameBytes = maxFrameBytes;
+    }
+
+    @Override
+    public void start(Consumer<RelayFrame> receiver) {
+        this.receiver = receiver;
+        this.running = true;
+        if (hub) {
+            try {
+                server = new ServerSocket(port, 50, InetAddress.getByName(host));
+            } catch (IOException e) {
+                throw new IllegalStateException("토픽 중계 허브를 열 수 없습니다: " + host + ":" + port, e);
+            }
+            daemon("topic-relay-hub", this::acceptLoop).start();
+            log.info("Topic relay hub listening: {}:{}", host, port);
+        } else {
+            daemon("topic-relay-client", this::connectLoop).start();
+        }
+    }
+
+    @Override
+    public void publish(RelayFrame frame) {
+        if (frame.payload().length > maxFrameBytes) {
+            log.warn("Topic relay frame too large, not sent: destination={}, bytes={}",
+                    frame.destination(), frame.payload().length);
+            return;
+        }
+        // 허브: 모든 접속 노드로, 클라이언트: 허브로
+        send(frame, null);
+    }
+
+    /**
+     * 현재 연결된(인증 완료) 피어 수 (허브: 접속 노드 수, 클라이언트: 허브 연결 여부)
+     */
+    public int peerCount() {
+        return peers.size();
+    }
+
+    /**
+     * 전송 큐가 가득 차 버린 프레임 수
+     */
+    public long droppedFrames() {
+        return droppedFrames.get();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        ServerSocket s = server;
+        if (s != null) {
+            closeQuietly(s);
+        }
+        peers.forEach(Peer::close);
+        peers.clear();
+    }
+
+    private void acceptLoop() {
+        while (running) {
+            try {
+                Socket socket = server.accept();
+                // 인증은 피어 스레드에서 (느린/악성 접속이 accept 를 막지 않도록)
+                daemon("topic-relay-peer", () -> {
+                    Peer peer = authenticate(socket);
+                    if (peer != null) {
+                        readLoop(peer);
+                    }
+                }).start();
+            } catch (IOException e) {
+                if (running) {
+                    log.warn("Topic relay accept failed: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void connectLoop() {
+        while (running) {
+            try {
+                Peer peer = authenticate(new Socket(host, port));
+                if (peer != null) {
+                    log.info("Topic relay connected to hub: {}:{}", host, port);
+                    readLoop(peer);
+                }
+            } catch (IOException e) {
+                log.debug("Topic relay connect failed: {}:{}, err={}", host, port, e.getMessage());
+            }
+            if (!running) {
+                return;
+            }
+            try {
+                Thread.sleep(reconnectMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 상호 인증 후 피어 등록, 실패 시 연결을 닫고 null
+     */
+    private Peer authenticate(Socket socket) {
+        Peer peer = null;
+        try {
+            peer = new Peer(socket);
+            socket.setSoTimeout(HANDSHAKE_TIMEOUT_MS);
+            peer.handshake();
+            socket.setSoTimeout(0);
+        } catch (IOException | GeneralSecurityException e) {
+            log.warn("Topic relay peer rejected: remote={}, err={}", socket.getRemoteSocketAddress(), e.getMessage());
+            if (peer != null) {
+                peer.close();
+            } else {
+                closeQuietly(socket);
+            }
+            return null;
+        }
+        peer.startWriter();
+        peers.add(peer);
+        return peer;
+    }
+
+    private void readLoop(Peer peer) {
+        try {
+            while (running) {
+                RelayFrame frame = peer.read();
+                if (hub) {
+                    send(frame, peer);
+                }
+                Consumer<RelayFrame> r = receiver;
+                if (r != null) {
+                    r.accept(frame);
+                }
+            }
+        } catch (EOFException e) {
+            // 상대 노드 종료
+        } catch (IOException e) {
+            if (running) {
+                log.warn("Topic relay peer disconnected: {}", e.getMessage());
+            }
+        } finally {
+            peers.remove(peer);
+            peer.close();
+        }
+    }
+
+    private void send(RelayFrame frame, Peer exclude) {
+        for (Peer peer : peers) {
+            if (peer == exclude || peer.offer(frame)) {
+                continue;
+            }
+            long dropped = droppedFrames.incrementAndGet();
+            if (dropped == 1 || dropped % 1_000 == 0) {
+                log.warn("Topic relay send queue full, frame dropped: remote={}, dropped={}",
+                        peer.socket.getRemoteSocketAddress(), dropped);
+            }
+        }
+    }
+
+    private static Thread daemon(String name, Runnable task) {
+        Thread thread = new Thread(task, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException ignored) {
+            // 종료 중
+        }
+    }
+
+    private final class Peer {
+
+        private final Socket socket;
+        private final DataInputStream in;
+        private final DataOutputStream out;
+        private final BlockingQueue<RelayFrame> sendQueue = new ArrayBlockingQueue<>(sendQueueCapacity);
+        private volatile Thread writer;
+
+        Peer(Socket socket) throws IOException {
+            this.socket = socket;
+            socket.setTcpNoDelay(true);
+            this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        }
+
+        /**
+         * nonce 교환 → 상대 nonce 에 대한 HMAC(자기 역할) 전송 → 내 nonce 에 대한 HMAC(상대 역할) 검증
+         * 역할을 MAC 에 포함하여 상대가 받은 값을 그대로 되돌려 보내는 반사 공격을 막음
+         */
+        void handshake() throws IOException, GeneralSecurityException {
+            byte[] nonce = new byte[NONCE_BYTES];
+            random.nextBytes(nonce);
+            out.write(nonce);
+            out.flush();
+
+            byte[] peerNonce = new byte[NONCE_BYTES];
+            in.readFully(peerNonce);
+            out.write(mac(hub ? HUB_ROLE : NODE_ROLE, peerNonce));
+            out.flush();
+
+            byte[] expected = mac(hub ? NODE_ROLE : HUB_ROLE, nonce);
+            byte[] actual = new byte[expected.length];
+            in.readFully(actual);
+            if (!MessageDigest.isEqual(expected, actual)) {
+                throw new GeneralSecurityException("relay secret mismatch");
+            }
+        }
+
+        private byte[] mac(String role, byte[] nonce) throws GeneralSecurityException {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret, "HmacSHA256"));
+            mac.update(role.getBytes(StandardCharsets.UTF_8));
+            return mac.doFinal(nonce);
+        }
+
+        void startWriter() {
+            writer = daemon("topic-relay-writer", this::writeLoop);
+            writer.start();
+        }
+
+        boolean offer(RelayFrame frame) {
+            return sendQueue.offer(frame);
+        }
+
+        RelayFrame read() throws IOException {
+            String destination = in.readUTF();
+            String contentType = in.readUTF();
+            int length = in.readInt();
+            if (length < 0 || length > maxFrameBytes) {
+                throw new IOException("relay frame length out of range: " + length);
+            }
+            byte[] payload = new byte[length];
+            in.readFully(payload);
+            return new RelayFrame(destination, contentType.isEmpty() ? null : contentType, payload);
+        }
+
+        /**
+         * 전송 스레드: 큐에 쌓인 프레임을 이어서 쓰고 큐가 비면 flush
+         */
+        private void writeLoop() {
+            try {
+                while (!socket.isClosed()) {
+                    RelayFrame frame = sendQueue.take();
+                    do {
+                        write(frame);
+                    } while ((frame = sendQueue.poll()) != null);
+                    out.flush();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException e) {
+                if (running) {
+                    log.warn("Topic relay send failed: {}", e.getMessage());
+                }
+                peers.remove(this);
+                close();
+            }
+        }
+
+        private void write(RelayFrame frame) throws IOException {
+            out.writeUTF(frame.destination());
+            out.writeUTF(frame.contentType() == null ? "" : frame.contentType());
+            out.writeInt(frame.payload().length);
+            out.write(frame.payload());
+        }
+
+        void close() {
+            closeQuietly(socket);
+            Thread w = writer;
+            if (w != null) {
+                w.interrupt();
+            }
+            sendQueue.clear();
+        }
+    }
+}
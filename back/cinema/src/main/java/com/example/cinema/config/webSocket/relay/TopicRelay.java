@@ -0,0 +1,31 @@
+package com.example.cinema.config.webSocket.relay;
+
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 토픽 중계(Relay)
+ * - 한 노드의 simple broker 로 발행된 /topic/theaters/** 메시지를 다른 노드로 전달
+ * - 수신한 메시지는 각 노드의 brokerChannel 로 다시 주입되어 로컬 구독자에게 전송됨
+ * - 구현: in-process(같은 JVM 내 공유 버스), tcp(루프백/내부망 허브)
+ */
+public interface TopicRelay extends AutoCloseable {
+
+    /**
+     * 중계 시작 (다른 노드에서 온 메시지를 receiver 로 전달)
+     */
+    void start(Consumer<RelayFrame> receiver);
+
+    /**
+     * 로컬에서 발행된 메시지를 다른 노드로 전달 (자기 자신에게는 다시 전달하지 않음)
+     */
+    void publish(RelayFrame frame);
+
+    @Override
+    void close();
+
+    /**
+     * 중계 단위 (목적지 + content-type + 직렬화된 페이로드)
+     */
+    record RelayFrame(String destination, String contentType, byte[] payload) {
+    }
+}
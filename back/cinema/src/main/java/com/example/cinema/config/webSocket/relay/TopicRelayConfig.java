@@ -0,0 +1,34 @@
+package com.example.cinema.config.webSocket.relay;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 노드 간 토픽 중계 구현 선택 (websocket.relay.type)
+ * - in-process (기본): 같은 JVM 내 공유 버스
+ * - tcp: hub=true 노드가 host:port 에서 허브 역할, 나머지 노드는 허브에 접속
+ *        모든 노드에 같은 secret 필수 (미설정 시 기동 실패)
+ */
+@Configuration
+public class TopicRelayConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "websocket.relay.type", havingValue = "tcp")
+    public TopicRelay tcpTopicRelay(@Value("${websocket.relay.tcp.host:127.0.0.1}") String host,
+                                    @Value("${websocket.relay.tcp.port:7400}") int port,
+                                    @Value("${websocket.relay.tcp.hub:false}") boolean hub,
+                                    @Value("${websocket.relay.tcp.reconnect-ms:1000}") long reconnectMs,
+                                    @Value("${websocket.relay.tcp.secret:}") String secret,
+                                    @Value("${websocket.relay.tcp.send-queue:4096}") int sendQueue,
+                                    @Value("${websocket.relay.tcp.max-frame-bytes:1048576}") int maxFrameBytes) {
+        return new TcpTopicRelay(host, port, hub, reconnectMs, secret, sendQueue, maxFrameBytes);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "websocket.relay.type", havingValue = "in-process", matchIfMissing = true)
+    public TopicRelay inProcessTopicRelay() {
+        return new InProcessTopicRelay(InProcessTopicRelay.Bus.shared());
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.cinema.config.webSocket.relay;
+
+import com.example.cinema.config.webSocket.relay.TopicRelay.RelayFrame;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * brokerChannel 인터셉터: 로컬 발행 메시지를 다른 노드로 중계하고, 중계받은 메시지를 로컬 브로커에 주입
+ * - relayHeaders() 를 붙여 보낸 메시지만 중계 (커밋 후 보내는 상태 전이 등 한 노드에서만 만드는 메시지)
+ *   노드마다 각자 만드는 메시지(heartbeat 등)는 헤더 없이 보내 로컬에만 전달
+ * - 중계받은 메시지에는 RELAYED_HEADER 를 붙여 다시 중계되지 않도록 함
+ * - 중계받은 메시지도 prefix 밖 목적지(/queue, /user 등)는 버림
+ * - publish() 로 보낸 프레임은 로컬 브로커를 거치지 않고, 받는 노드에서 목적지 접미사로 등록된 처리기(handle)가 처리
+ */
+@Slf4j
+@Component
+public class TopicRelayInterceptor implements ChannelInterceptor {
+
+    public static final String RELAYED_HEADER = "topicRelayed";
+    public static final String RELAY_HEADER = "topicRelay";
+
+    private final TopicRelay relay;
+    private final MessageChannel brokerChannel;
+
+    /** 목적지 접미사 -> 중계받은 프레임 처리기 (로컬 브로커 대신) */
+    private final Map<String, Consumer<RelayFrame>> handlers = new ConcurrentHashMap<>();
+
+    @Value("${websocket.relay.prefix:/topic/theaters/}")
+    private String prefix = "/topic/theaters/";
+
+    public TopicRelayInterceptor(TopicRelay relay, @Lazy @Qualifier("brokerChannel") MessageChannel brokerChannel) {
+        this.relay = relay;
+        this.brokerChannel = brokerChannel;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        relay.start(this::deliver);
+    }
+
+    /**
+     * 다른 노드로 중계할 메시지 헤더 (convertAndSend 호출마다 새로 생성)
+     * 일반 헤더(native 헤더 아님)이므로 클라이언트 STOMP 프레임에는 실리지 않음
+     */
+    public static MessageHeaders relayHeaders() {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setHeader(RELAY_HEADER, Boolean.TRUE);
+        accessor.setLeaveMutable(true);
+        return accessor.getMessageHeaders();
+    }
+
+    /**
+     * 로컬 브로커를 거치지 않고 다른 노드로만 전달 (받는 노드에서는 handle 로 등록된 처리기가 처리)
+     */
+    public void publish(String destination, byte[] payload) {
+        try {
+            relay.publish(new RelayFrame(destination, null, payload));
+        } catch (RuntimeException e) {
+            log.warn("Topic relay publish failed: destination={}, err={}", destination, e.getMessage());
+        }
+    }
+
+    /**
+     * 목적지가 suffix 로 끝나는 중계 프레임을 로컬 브로커 대신 handler 로 전달
+     */
+    public void handle(String suffix, Consumer<RelayFrame> handler) {
+        handlers.put(suffix, handler);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        String destination = accessor.getDestination();
+        if (accessor.getMessageType() != SimpMessageType.MESSAGE
+                || destination == null || !destination.startsWith(prefix)
+                || accessor.getHeader(RELAY_HEADER) == null
+                || accessor.getHeader(RELAYED_HEADER) != null) {
+            return message;
+        }
+
+        byte[] payload = payloadBytes(message.getPayload());
+        if (payload == null) {
+            log.debug("Topic relay skipped (unsupported payload): destination={}, type={}",
+                    destination, message.getPayload().getClass().getSimpleName());
+            return message;
+        }
+        MimeType contentType = accessor.getContentType();
+        try {
+            relay.publish(new RelayFrame(destination, contentType == null ? null : contentType.toString(), payload));
+        } catch (RuntimeException e) {
+            // 중계 실패가 로컬 전송을 막지 않도록 함
+            log.warn("Topic relay publish failed: destination={}, err={}", destination, e.getMessage());
+        }
+        return message;
+    }
+
+    /**
+     * 다른 노드에서 온 메시지를 로컬 simple broker 로 전달
+     */
+    void deliver(RelayFrame frame) {
+        String destination = frame.destination();
+        if (destination == null || !destination.startsWith(prefix) || destination.contains("..")) {
+            log.warn("Topic relay frame rejected (destination outside prefix): destination={}", destination);
+            return;
+        }
+        for (Map.Entry<String, Consumer<RelayFrame>> handler : handlers.entrySet()) {
+            if (destination.endsWith(handler.getKey())) {
+                try {
+                    handler.getValue().accept(frame);
+                } catch (RuntimeException e) {
+                    // 처리 실패가 중계 연결을 끊지 않도록 함
+                    log.warn("Topic relay handler failed: destination={}, err={}", destination, e.getMessage());
+                }
+                return;
+            }
+        }
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        if (frame.contentType() != null) {
+            accessor.setContentType(MimeType.valueOf(frame.contentType()));
+        }
+        accessor.setHeader(RELAYED_HEADER, Boolean.TRUE);
+        brokerChannel.send(MessageBuilder.createMessage(frame.payload(), accessor.getMessageHeaders()));
+    }
+
+    private static byte[] payloadBytes(Object payload) {
+        if (payload instanceof byte[] bytes) {
+            return bytes;
+        }
+        if (payload instanceof String text) {
+            return text.getBytes(StandardCharsets.UTF_8);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.cinema.controller.cluster;
+
+import com.example.cinema.dto.cluster.JobLeaseResponse;
+import com.example.cinema.dto.common.ApiResponse;
+import com.example.cinema.service.cluster.JobLeaseService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 주기 작업 리더 현황 API Controller
+ */
+@RestController
+@RequestMapping("/admin/job-leases")
+@RequiredArgsConstructor
+@Tag(name = "Job Lease", description = "주기 작업 리더 임대 API")
+public class JobLeaseController {
+
+    private final JobLeaseService jobLeaseService;
+
+    @Operation(summary = "주기 작업 리더 조회", description = "작업별로 임대를 가진 노드와 만료 시각을 조회합니다.")
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<JobLeaseResponse>>> getJobLeases() {
+        return ResponseEntity.ok(ApiResponse.success("주기 작업 리더 조회 성공", jobLeaseService.getLeases()));
+    }
+}
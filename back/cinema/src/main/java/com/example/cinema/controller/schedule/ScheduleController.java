@@ -38,6 +38,17 @@ public class ScheduleController {
         return ResponseEntity.ok(ApiResponse.success("상영 일정이 성공적으로 생성되었습니다.", response));
     }
 
+    /**
+     * 여러 상영 일정을 한 번에 생성합니다. (슬롯 목록 / 반복 규칙)
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse<ScheduleBulkCreateResponse>> createSchedules(
+            @RequestBody ScheduleBulkCreateRequest request,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        ScheduleBulkCreateResponse response = scheduleService.createSchedules(request, userDetails.getUser());
+        return ResponseEntity.ok(ApiResponse.success("상영 일정이 성공적으로 생성되었습니다.", response));
+    }
+
     /**
      * 기존 상영 일정의 시간을 수정합니다.
      */
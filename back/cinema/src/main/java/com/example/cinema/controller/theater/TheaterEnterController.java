@@ -2,8 +2,10 @@ package com.example.cinema.controller.theater;
 
 import com.example.cinema.config.common.CustomUserDetails;
 import com.example.cinema.dto.common.ApiResponse;
+import com.example.cinema.dto.theater.TheaterAdmissionResponse;
 import com.example.cinema.dto.theater.TheaterEnterResponse;
 import com.example.cinema.dto.theater.TheaterLeaveResponse;
+import com.example.cinema.service.theater.TheaterAdmissionService;
 import com.example.cinema.service.theater.TheaterEnterService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -16,18 +18,36 @@ import org.springframework.web.bind.annotation.*;
 public class TheaterEnterController {
 
     private final TheaterEnterService enterService;
+    private final TheaterAdmissionService admissionService;
+
+    /**
+     * 입장 대기열 등록
+     * - 자리가 있으면 입장권 즉시 발급, 없으면 대기 순번 반환
+     * - 이후 순번 / 입장권은 /user/queue/theaters/{scheduleId}/admission 으로 푸시
+     */
+    @PostMapping("/{scheduleId}/admission")
+    public ResponseEntity<ApiResponse<TheaterAdmissionResponse>> admission(
+            @PathVariable long scheduleId,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        TheaterAdmissionResponse response = admissionService.request(
+                scheduleId, userDetails.getUser().getUserId(), userDetails.getUsername());
+        return ResponseEntity.ok(ApiResponse.success("입장 대기열 등록 성공", response));
+    }
 
     /**
      * 상영관 입장
      * - 구독 상태 검증
      * - WAITING 또는 PLAYING 상태에서만 입장 가능
+     * - 입장 제어 사용 시 X-Entry-Ticket 헤더로 입장권 전달
      */
     @PostMapping("/{scheduleId}/enter")
     public ResponseEntity<ApiResponse<TheaterEnterResponse>> enter(
             @PathVariable long scheduleId,
+            @RequestHeader(value = "X-Entry-Ticket", required = false) String ticket,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
 
-        TheaterEnterResponse response = enterService.enter(scheduleId, userDetails.getUser());
+        TheaterEnterResponse response = enterService.enter(scheduleId, userDetails.getUser(), ticket);
         return ResponseEntity.ok(ApiResponse.success("상영관 입장 성공", response));
     }
 
@@ -3,18 +3,27 @@ package com.example.cinema.controller.theater;
 import com.example.cinema.config.common.CustomUserDetails;
 import com.example.cinema.dto.common.ApiResponse;
 import com.example.cinema.dto.theater.PlaybackInfoResponse;
+import com.example.cinema.service.theater.TheaterLivePlaylistService;
+import com.example.cinema.service.theater.TheaterLivePlaylistService.LivePlaylist;
 import com.example.cinema.service.theater.TheaterPlaybackService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.TimeUnit;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/theaters")
 public class TheaterPlaybackController {
 
+    private static final MediaType MPEG_URL = MediaType.parseMediaType("application/vnd.apple.mpegurl");
+
     private final TheaterPlaybackService playbackService;
+    private final TheaterLivePlaylistService livePlaylistService;
 
     @GetMapping("/{scheduleId}/playback")
     public ResponseEntity<ApiResponse<PlaybackInfoResponse>> playback(
@@ -27,4 +36,16 @@ public class TheaterPlaybackController {
         }
         return ResponseEntity.ok(ApiResponse.success("재생 정보 조회 성공", info));
     }
+
+    @GetMapping("/{scheduleId}/live.m3u8")
+    public ResponseEntity<String> livePlaylist(
+            @PathVariable long scheduleId,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        LivePlaylist playlist = livePlaylistService.getLivePlaylist(scheduleId, userDetails.getUser());
+        return ResponseEntity.ok()
+                .contentType(MPEG_URL)
+                .cacheControl(CacheControl.maxAge(playlist.maxAgeMs(), TimeUnit.MILLISECONDS).cachePrivate())
+                .body(playlist.body());
+    }
 }
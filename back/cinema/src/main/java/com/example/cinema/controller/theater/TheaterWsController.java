@@ -1,16 +1,19 @@
 package com.example.cinema.controller.theater;
 
+import com.example.cinema.config.webSocket.StompUserPrincipal;
 import com.example.cinema.dto.theater.ChatRequest;
 import com.example.cinema.dto.theater.ChatResponse;
-import com.example.cinema.dto.theater.PlaybackStateResponse;
-import com.example.cinema.repository.user.UserRepository;
-import com.example.cinema.service.theater.TheaterSyncService;
+import com.example.cinema.service.theater.TheaterChatBroadcaster;
+import com.example.cinema.service.theater.TheaterChatHistory;
+import com.example.cinema.service.theater.TheaterStateBroadcaster;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.handler.annotation.*;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.annotation.SubscribeMapping;
 import org.springframework.stereotype.Controller;
 
-import java.security.Principal;
+import java.util.List;
+
 /**
  * 영상 동시 송출 WebSocket 컨트롤러
  * - 재생 제어 없음 (스케줄 시작 시간 기준 자동 재생)
@@ -21,35 +24,46 @@ import java.security.Principal;
 @RequiredArgsConstructor
 public class TheaterWsController {
 
-    private final TheaterSyncService syncService;
-    private final UserRepository userRepository;
+    private final TheaterStateBroadcaster stateBroadcaster;
+    private final TheaterChatBroadcaster chatBroadcaster;
+    private final TheaterChatHistory chatHistory;
 
     /**
      * 재생 상태 구독
      * 클라이언트가 /app/theaters/{scheduleId}/state 구독 시 현재 상태 반환
+     * - 직렬화된 상태 스냅샷(byte[], application/json)을 구독자 간에 공유
      */
     @SubscribeMapping("/theaters/{scheduleId}/state")
-    public PlaybackStateResponse subscribeState(@DestinationVariable long scheduleId) {
-        return syncService.getState(scheduleId);
+    public byte[] subscribeState(@DestinationVariable long scheduleId) {
+        return stateBroadcaster.snapshot(scheduleId);
+    }
+
+    /**
+     * 최근 채팅 이어받기
+     * 클라이언트가 /app/theaters/{scheduleId}/chat/after/{seq} 구독 시 seq 이후 메시지 반환
+     * - 처음 입장 시 seq=0 (버퍼에 남아 있는 최근 채팅 전체)
+     */
+    @SubscribeMapping("/theaters/{scheduleId}/chat/after/{seq}")
+    public List<ChatResponse> subscribeChatAfter(@DestinationVariable long scheduleId,
+                                                 @DestinationVariable long seq) {
+        return chatHistory.after(scheduleId, seq);
     }
 
     /**
      * 채팅 메시지 전송
      * - 클라이언트: /app/chat/{scheduleId}로 메시지 전송
-     * - 서버: /topic/theaters/{scheduleId}/chat으로 브로드캐스트
-     * - CustomUserDetails로 인증된 사용자 정보 사용 (위조 방지)
+     * - 서버: 짧은 window 동안 모아 /topic/theaters/{scheduleId}/chat으로 배열(ChatResponse[]) 브로드캐스트
+     * - CONNECT 시 세션에 고정된 사용자 정보 사용 (위조 방지, 메시지마다 DB 조회 없음)
      */
     @MessageMapping("/chat/{scheduleId}")
-    @SendTo("/topic/theaters/{scheduleId}/chat")
-    public ChatResponse sendChat(
+    public void sendChat(
             @DestinationVariable long scheduleId,
             ChatRequest request,
-            Principal principal) {
+            SimpMessageHeaderAccessor headerAccessor) {
 
         // 인증된 사용자의 닉네임 사용 (이메일 노출 방지)
-        String nickname = userRepository.findByEmail(principal.getName())
-                .map(user -> user.getNickname())
-                .orElse("익명");
-        return ChatResponse.from(scheduleId, request.getMessage(), nickname);
+        StompUserPrincipal principal = StompUserPrincipal.of(headerAccessor.getSessionAttributes());
+        String nickname = principal != null ? principal.getNickname() : "익명";
+        chatBroadcaster.publish(ChatResponse.from(scheduleId, request.getMessage(), nickname));
     }
 }
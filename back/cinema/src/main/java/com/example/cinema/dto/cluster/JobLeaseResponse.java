@@ -0,0 +1,45 @@
+package com.example.cinema.dto.cluster;
+
+import com.example.cinema.entity.JobLease;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주기 작업 리더 임대 현황 DTO (GET /admin/job-leases)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobLeaseResponse {
+
+    private String jobName;
+
+    /** 임대를 가진 노드 (만료된 경우 마지막 보유 노드) */
+    private String ownerId;
+
+    private LocalDateTime leaseUntil;
+
+    private LocalDateTime acquiredAt;
+
+    /** 임대가 아직 유효한지 */
+    private boolean active;
+
+    /** 조회한 노드가 owner 인지 */
+    private boolean self;
+
+    public static JobLeaseResponse of(JobLease lease, String nodeId, LocalDateTime now) {
+        return JobLeaseResponse.builder()
+                .jobName(lease.getJobName())
+                .ownerId(lease.getOwnerId())
+                .leaseUntil(lease.getLeaseUntil())
+                .acquiredAt(lease.getAcquiredAt())
+                .active(lease.getLeaseUntil().isAfter(now))
+                .self(lease.getOwnerId().equals(nodeId))
+                .build();
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.cinema.dto.schedule;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 상영 일정 일괄 생성 요청
+ * - slots(직접 지정)와 recurrence(반복 규칙) 중 하나 이상 지정, 둘 다 지정하면 합쳐서 생성
+ */
+@Getter
+@NoArgsConstructor
+public class ScheduleBulkCreateRequest {
+    @NotNull(message = "콘텐츠를 선택해주세요.")
+    private Long contentId; //영화
+
+    private List<ScheduleSlotRequest> slots; //직접 지정한 상영 시간 목록
+
+    private ScheduleRecurrenceRequest recurrence; //반복 규칙
+}
@@ -0,0 +1,14 @@
+package com.example.cinema.dto.schedule;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ScheduleBulkCreateResponse {
+    private Long contentId;
+    private int createdCount;
+    private List<ScheduleCreateResponse> schedules; //시작 시각 순
+}
@@ -0,0 +1,32 @@
+package com.example.cinema.dto.schedule;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * 반복 편성 규칙
+ * - startDate ~ endDate 중 daysOfWeek 에 해당하는 날마다 startTimes 각각에 durationMinutes 길이의 상영 생성
+ */
+@Getter
+@NoArgsConstructor
+public class ScheduleRecurrenceRequest {
+    @NotNull(message = "반복 시작 날짜를 입력해주세요.")
+    private LocalDate startDate; //반복 시작 날짜
+
+    @NotNull(message = "반복 종료 날짜를 입력해주세요.")
+    private LocalDate endDate; //반복 종료 날짜 (포함)
+
+    private List<DayOfWeek> daysOfWeek; //상영 요일 (비우면 매일)
+
+    @NotNull(message = "상영 시작 시각을 입력해주세요.")
+    private List<LocalTime> startTimes; //하루 중 상영 시작 시각 목록
+
+    @NotNull(message = "상영 시간을 입력해주세요.")
+    private Integer durationMinutes; //상영 시간 (분)
+}
@@ -0,0 +1,17 @@
+package com.example.cinema.dto.schedule;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+public class ScheduleSlotRequest {
+    @NotNull(message = "시작 시간을 입력해주세요.")
+    private LocalDateTime startAt; //시작 시간
+
+    @NotNull(message = "종료 시간을 입력해주세요.")
+    private LocalDateTime endAt; //종료시간
+}
@@ -9,6 +9,8 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 public class ChatResponse {
+    /** 상영관별 채팅 순번 (노드의 채팅 버퍼 생성 시각 μs 에서 시작해 단조 증가, 같은 노드 재접속 시 이어받기 기준) */
+    private long seq;
     private Long scheduleId;
     private String message;
     private String nickname;  // 이메일 대신 닉네임 사용
@@ -22,4 +24,8 @@ public class ChatResponse {
                 .sentAt(LocalDateTime.now())
                 .build();
     }
+
+    public ChatResponse withSeq(long seq) {
+        return new ChatResponse(seq, scheduleId, message, nickname, sentAt);
+    }
 }
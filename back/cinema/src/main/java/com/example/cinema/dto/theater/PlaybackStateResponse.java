@@ -59,6 +59,19 @@ public class PlaybackStateResponse {
                 .build();
     }
 
+    /**
+     * 상영 중 상태 (DB 조회 없이 메모리의 시작 시각으로 계산할 때 사용)
+     */
+    public static PlaybackStateResponse playing(long startAtMs, long serverTimeMs) {
+        return PlaybackStateResponse.builder()
+                .status(ScheduleStatus.PLAYING)
+                .playing(true)
+                .positionMs(Math.max(0L, serverTimeMs - startAtMs))
+                .playbackRate(1.0)
+                .serverTimeMs(serverTimeMs)
+                .build();
+    }
+
     public static PlaybackStateResponse notPlaying(long serverTimeMs) {
         return PlaybackStateResponse.builder()
                 .status(ScheduleStatus.CLOSED)
@@ -0,0 +1,51 @@
+package com.example.cinema.dto.theater;
+
+import com.example.cinema.type.AdmissionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상영관 입장 대기열 응답 DTO
+ * <p>
+ * 용도:
+ * - 대기열 등록 결과 반환 (POST /theaters/{id}/admission)
+ * - 대기 순번 / 입장권 발급 푸시 (/user/queue/theaters/{id}/admission)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TheaterAdmissionResponse {
+
+    private Long scheduleItemId;
+
+    private AdmissionStatus status;
+
+    /** 대기 순번 (1부터, 입장권 발급 시 0) */
+    private long position;
+
+    /** 입장권 (입장 요청 시 X-Entry-Ticket 헤더로 전달) */
+    private String ticket;
+
+    /** 입장권 만료 시각 (epoch ms) */
+    private Long ticketExpiresAtMs;
+
+    public static TheaterAdmissionResponse admitted(long scheduleId, String ticket, long expiresAtMs) {
+        return TheaterAdmissionResponse.builder()
+                .scheduleItemId(scheduleId)
+                .status(AdmissionStatus.ADMITTED)
+                .ticket(ticket)
+                .ticketExpiresAtMs(expiresAtMs)
+                .build();
+    }
+
+    public static TheaterAdmissionResponse waiting(long scheduleId, long position) {
+        return TheaterAdmissionResponse.builder()
+                .scheduleItemId(scheduleId)
+                .status(AdmissionStatus.WAITING)
+                .position(position)
+                .build();
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.cinema.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주기 작업 리더 임대(lease)
+ * - 작업 하나당 한 행, lease_until 이 지나기 전까지 owner_id 노드만 작업 실행
+ * - 갱신 / 인계는 JobLeaseRepository 의 조건부 UPDATE 로만 처리
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "job_leases")
+public class JobLease {
+
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    @Column(name = "owner_id", nullable = false, length = 200)
+    private String ownerId;
+
+    @Column(name = "lease_until", nullable = false)
+    private LocalDateTime leaseUntil;
+
+    /** 현재 owner 가 임대를 처음 얻은 시각 (갱신 시 유지) */
+    @Column(name = "acquired_at", nullable = false)
+    private LocalDateTime acquiredAt;
+}
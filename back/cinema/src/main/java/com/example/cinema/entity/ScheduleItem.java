@@ -12,7 +12,9 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "schedule_items")
+@Table(name = "schedule_items", indexes = {
+        @Index(name = "idx_schedule_items_owner_start", columnList = "owner_user_id, start_at")
+})
 public class ScheduleItem extends BaseEntity {
 
     @Id
@@ -28,6 +30,10 @@ public class ScheduleItem extends BaseEntity {
     @JoinColumn(name = "content_id", nullable = false)
     private Content content;
 
+    /** 콘텐츠 창작자 ID (겹침 검사를 contents 조인 없이 인덱스로 처리하기 위한 비정규화 컬럼) */
+    @Column(name = "owner_user_id")
+    private Long ownerId;
+
     @Column(name = "start_at", nullable = false)
     private LocalDateTime startAt;
 
@@ -38,6 +44,13 @@ public class ScheduleItem extends BaseEntity {
     @Column(nullable = false)
     private ScheduleStatus status;
 
+    @PrePersist
+    private void fillOwnerId() {
+        if (ownerId == null && content != null) {
+            ownerId = content.getOwner().getUserId();
+        }
+    }
+
     public void update(LocalDateTime startAt, LocalDateTime endAt) {
         this.startAt = startAt;
         this.endAt = endAt;
@@ -12,9 +12,15 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "watch_histories")
+@Table(name = "watch_histories", uniqueConstraints = {
+        // (사용자, 스케줄) 당 시청 기록 1건 → 입장은 upsert 로 처리 (TheaterEnterService#enter)
+        @UniqueConstraint(name = "uk_watch_histories_user_schedule", columnNames = {"user_id", "schedule_item_id"})
+})
 public class WatchHistory extends BaseEntity {
 
+    /** 조회수로 집계되는 최소 시청 시간 (초) */
+    public static final long VIEW_COUNT_MIN_SECONDS = 5;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "watch_id")
@@ -86,7 +92,7 @@ public class WatchHistory extends BaseEntity {
         Duration duration = Duration.between(enterAt, leftAt);
         long seconds = Math.abs(duration.toSeconds());
 
-        return seconds >= 5;
+        return seconds >= VIEW_COUNT_MIN_SECONDS;
     }
 
 }
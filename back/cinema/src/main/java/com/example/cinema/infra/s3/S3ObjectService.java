@@ -74,6 +74,10 @@ public class S3ObjectService {
         s3.getObject(GetObjectRequest.builder().bucket(bucket).key(key).build(), dest);
     }
 
+    public String readUtf8(String key) {
+        return s3.getObjectAsBytes(GetObjectRequest.builder().bucket(bucket).key(key).build()).asUtf8String();
+    }
+
     public void uploadFile(String key, Path file, String contentType, String cacheControl) throws Exception {
         PutObjectRequest req = PutObjectRequest.builder()
                 .bucket(bucket)
@@ -0,0 +1,46 @@
+package com.example.cinema.repository.cluster;
+
+import com.example.cinema.entity.JobLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+
+@Repository
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+
+    /**
+     * 내 임대 갱신 또는 만료된 임대 인계 (반영 1건이면 리더)
+     * - 시각은 모두 DB 시계 기준 (노드 간 시계 차이로 만료 전 임대를 빼앗거나 만료된 임대를 계속 쥐지 않도록)
+     * - MySQL 은 SET 을 왼쪽부터 평가하므로 owner_id 보다 acquired_at 을 먼저 갱신
+     */
+    @Modifying
+    @Query(value = "UPDATE job_leases " +
+            "SET acquired_at = CASE WHEN owner_id = :owner THEN acquired_at ELSE CURRENT_TIMESTAMP(3) END, " +
+            "owner_id = :owner, lease_until = TIMESTAMPADD(MICROSECOND, :ttlMicros, CURRENT_TIMESTAMP(3)) " +
+            "WHERE job_name = :job AND (owner_id = :owner OR lease_until < CURRENT_TIMESTAMP(3))", nativeQuery = true)
+    int renewOrTakeOver(@Param("job") String jobName,
+                        @Param("owner") String ownerId,
+                        @Param("ttlMicros") long ttlMicros);
+
+    /**
+     * 최초 임대 (같은 작업을 동시에 넣으면 PK 충돌로 한쪽만 성공)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO job_leases (job_name, owner_id, lease_until, acquired_at) " +
+            "VALUES (:job, :owner, TIMESTAMPADD(MICROSECOND, :ttlMicros, CURRENT_TIMESTAMP(3)), CURRENT_TIMESTAMP(3))",
+            nativeQuery = true)
+    int insert(@Param("job") String jobName,
+               @Param("owner") String ownerId,
+               @Param("ttlMicros") long ttlMicros);
+
+    /**
+     * 종료 시 보유한 임대를 즉시 만료시켜 다른 노드가 바로 인계하도록 함
+     */
+    @Modifying
+    @Query(value = "UPDATE job_leases SET lease_until = CURRENT_TIMESTAMP(3) " +
+            "WHERE owner_id = :owner AND lease_until > CURRENT_TIMESTAMP(3)", nativeQuery = true)
+    int releaseAll(@Param("owner") String ownerId);
+}
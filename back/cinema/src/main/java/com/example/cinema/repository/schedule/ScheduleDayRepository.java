@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,5 +13,6 @@ import java.util.Optional;
 public interface ScheduleDayRepository extends JpaRepository<ScheduleDay, Long> {
     Optional<ScheduleDay> findByContent_ContentIdAndScheduleDate(Long contentId, LocalDate scheduleDate);
 
+    List<ScheduleDay> findAllByContent_ContentIdAndScheduleDateIn(Long contentId, Collection<LocalDate> scheduleDates);
 
 }
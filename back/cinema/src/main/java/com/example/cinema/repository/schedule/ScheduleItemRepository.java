@@ -10,45 +10,61 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ScheduleItemRepository extends JpaRepository<ScheduleItem, Long> , ScheduleItemRepositoryCustom {
 
     /**
-     * 특정 창작자(Owner)의 다른 상영 일정과 시간이 겹치는지 확인합니다.
-     * 시간 겹침 판별 로직: (기존 시작 < 요청 종료) AND (기존 종료 > 요청 시작)
+     * 특정 창작자(Owner)의 일정 중 요청 구간 [startAt, endAt) 과 겹치는 일정이 있는지 조회합니다.
+     * 기존 일정끼리 겹쳐 있어도(이전 데이터 등) 정확하도록 시작 / 종료 조건을 모두 검사합니다.
+     * 일정 길이는 최대 상영 길이로 제한되므로 startFrom(요청 시작 - 최대 상영 길이) 이후에 시작한 일정만 읽습니다.
+     * ((owner_user_id, start_at) 인덱스 범위 조회, 창작자의 전체 이력을 읽지 않음)
      * @param ownerId 창작자 ID
+     * @param startFrom 검사 하한 (요청 시작 시간 - 최대 상영 길이)
      * @param startAt 요청 시작 시간
      * @param endAt 요청 종료 시간
      * @param excludeId 수정 시 자기 자신을 제외하기 위한 ID (생성 시 null)
-     * @return 겹치는 일정이 존재하면 true
      */
     @Query("""
-    SELECT COUNT(s) > 0 
-    FROM ScheduleItem s 
-    WHERE s.content.owner.userId = :ownerId 
+    SELECT COUNT(s) > 0
+    FROM ScheduleItem s
+    WHERE s.ownerId = :ownerId
+      AND s.startAt > :startFrom
+      AND s.startAt < :endAt
+      AND s.endAt > :startAt
       AND (:excludeId IS NULL OR s.scheduleItemId <> :excludeId)
-      AND (s.startAt < :endAt AND s.endAt > :startAt)
 """)
-    boolean existsOverlapByOwner(@Param("ownerId") Long ownerId,
-                                 @Param("startAt") LocalDateTime startAt,
-                                 @Param("endAt") LocalDateTime endAt,
-                                 @Param("excludeId") Long excludeId);
+    boolean existsOverlappingByOwner(@Param("ownerId") Long ownerId,
+                                     @Param("startFrom") LocalDateTime startFrom,
+                                     @Param("startAt") LocalDateTime startAt,
+                                     @Param("endAt") LocalDateTime endAt,
+                                     @Param("excludeId") Long excludeId);
+
+    /**
+     * owner_user_id 컬럼 추가 이전에 저장된 일정의 창작자 ID 채우기 (기동 시 1회)
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE schedule_items
+           SET owner_user_id = (SELECT c.owner_user_id FROM contents c WHERE c.content_id = schedule_items.content_id)
+         WHERE owner_user_id IS NULL
+    """, nativeQuery = true)
+    int backfillOwnerIds();
     java.util.List<ScheduleItem> findAllByScheduleDay_ScheduleDayId(Long scheduleDayId);
 
     // 오픈: CLOSED -> WAITING (startAt-10분 구간)
     // 조건: startAt > now && startAt <= now+10분
-    @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("""
-        update ScheduleItem s
-           set s.status = com.example.cinema.type.ScheduleStatus.WAITING
-         where s.status = com.example.cinema.type.ScheduleStatus.CLOSED
-           and s.startAt > :now
-           and s.startAt <= :nowPlus10
+        select s.scheduleItemId
+        from ScheduleItem s
+        where s.status = com.example.cinema.type.ScheduleStatus.CLOSED
+          and s.startAt > :now
+          and s.startAt <= :nowPlus10
     """)
-    int closedToWaiting(@Param("now") LocalDateTime now,
-                        @Param("nowPlus10") LocalDateTime nowPlus10);
+    List<Long> findIdsClosedToWaiting(@Param("now") LocalDateTime now,
+                                      @Param("nowPlus10") LocalDateTime nowPlus10);
 
 
     @Query("""
@@ -75,6 +91,20 @@ public interface ScheduleItemRepository extends JpaRepository<ScheduleItem, Long
     """)
     List<Long> findIdsEndingToClosed(@Param("nowMinus10") LocalDateTime nowMinus10);
 
+    /**
+     * (from, to] 사이에 끝난 CLOSED 일정 ID (리더가 아닌 노드의 메모리 상태 정리용)
+     * - 시작 전 일정도 CLOSED 이므로 to 는 종료 후 정리 시각(endAt + 10분) 기준으로 제한
+     */
+    @Query("""
+        select s.scheduleItemId
+        from ScheduleItem s
+        where s.status = com.example.cinema.type.ScheduleStatus.CLOSED
+          and s.endAt > :from
+          and s.endAt <= :to
+    """)
+    List<Long> findIdsClosedEndedBetween(@Param("from") LocalDateTime from,
+                                         @Param("to") LocalDateTime to);
+
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("""
         update ScheduleItem s
@@ -83,6 +113,79 @@ public interface ScheduleItemRepository extends JpaRepository<ScheduleItem, Long
     """)
     int updateStatusByIds(@Param("to") ScheduleStatus to,
                           @Param("ids") List<Long> ids);
-}
 
+    /**
+     * 특정 상태의 상영 일정 전체 조회 (동기화 티커 초기 적재용)
+     */
+    List<ScheduleItem> findAllByStatus(ScheduleStatus status);
 
+    /**
+     * 상영 일정 + 콘텐츠 + 영상 자산 한 번에 조회 (재생 정보 캐시 적재용)
+     */
+    @Query("""
+        select s
+        from ScheduleItem s
+        join fetch s.content c
+        left join fetch c.videoHlsMaster
+        left join fetch c.videoSource
+        where s.scheduleItemId in :ids
+    """)
+    List<ScheduleItem> findAllWithVideoByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 상영 일정 ID -> 콘텐츠 ID ([scheduleItemId, contentId], 조회수 집계용)
+     */
+    @Query("""
+        select s.scheduleItemId, s.content.contentId
+        from ScheduleItem s
+        where s.scheduleItemId in :ids
+    """)
+    List<Object[]> findContentIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 일정이 주어진 상태인지 (입장 가능한 상영관만 입장 인원 집계 대상으로 열기 위함)
+     */
+    boolean existsByScheduleItemIdAndStatusIn(Long scheduleItemId, Collection<ScheduleStatus> statuses);
+
+    /**
+     * 주어진 상태인 일정만 ID 조회 (타이머 휠 전이 시 현재 상태 확인용)
+     */
+    @Query("""
+        select s.scheduleItemId
+        from ScheduleItem s
+        where s.scheduleItemId in :ids
+          and s.status in :statuses
+    """)
+    List<Long> findIdsByIdInAndStatusIn(@Param("ids") Collection<Long> ids,
+                                        @Param("statuses") Collection<ScheduleStatus> statuses);
+
+    /**
+     * [from, to] 구간에 걸쳐 있는 상영 일정 (타이머 휠 적재용)
+     */
+    @Query("""
+        select s
+        from ScheduleItem s
+        where s.endAt >= :from
+          and s.startAt <= :to
+    """)
+    List<ScheduleItem> findAllOverlapping(@Param("from") LocalDateTime from,
+                                          @Param("to") LocalDateTime to);
+
+    /**
+     * 특정 창작자의 일정 중 (from, to) 구간과 겹치는 일정 (일괄 생성 겹침 검사용, 시작 시각 순)
+     * startFrom(from - 최대 상영 길이) 이후에 시작한 일정만 읽습니다.
+     */
+    @Query("""
+        select s
+        from ScheduleItem s
+        where s.ownerId = :ownerId
+          and s.startAt > :startFrom
+          and s.startAt < :to
+          and s.endAt > :from
+        order by s.startAt
+    """)
+    List<ScheduleItem> findAllByOwnerOverlapping(@Param("ownerId") Long ownerId,
+                                                 @Param("startFrom") LocalDateTime startFrom,
+                                                 @Param("from") LocalDateTime from,
+                                                 @Param("to") LocalDateTime to);
+}
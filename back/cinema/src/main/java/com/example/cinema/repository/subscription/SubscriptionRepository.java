@@ -15,6 +15,11 @@ public interface SubscriptionRepository extends JpaRepository<Subscription, Long
     Optional<Subscription> findBySubscriber(User subscriber);
     boolean existsBySubscriber(User subscriber);
 
+    /**
+     * 사용자의 활성 구독 (User 조회 없이 구독 권한 확인용)
+     */
+    Optional<Subscription> findBySubscriber_UserIdAndIsActiveTrue(Long userId);
+
     List<Subscription> findByStatusAndCurrentPeriodEndBefore(SubscriptionStatus status, LocalDateTime endDateTime);
 }
 
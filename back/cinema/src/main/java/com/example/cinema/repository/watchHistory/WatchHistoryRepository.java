@@ -4,12 +4,17 @@ import com.example.cinema.entity.Content;
 import com.example.cinema.entity.ScheduleItem;
 import com.example.cinema.entity.User;
 import com.example.cinema.entity.WatchHistory;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -46,6 +51,14 @@ public interface WatchHistoryRepository extends JpaRepository<WatchHistory, Long
      */
     long countByScheduleItemAndLeftAtIsNull(ScheduleItem scheduleItem);
 
+    /**
+     * 특정 스케줄의 현재 시청 중인 사용자 ID 목록 (Presence 보정용)
+     */
+    @Query("SELECT DISTINCT wh.user.userId FROM WatchHistory wh " +
+            "WHERE wh.scheduleItem.scheduleItemId = :scheduleItemId " +
+            "AND wh.leftAt IS NULL")
+    List<Long> findActiveUserIds(@Param("scheduleItemId") Long scheduleItemId);
+
     /**
      * 리뷰 작성 가능한 시청 기록 조회 (viewCounted=true, 아직 리뷰 작성 안 함)
      */
@@ -63,4 +76,89 @@ public interface WatchHistoryRepository extends JpaRepository<WatchHistory, Long
      */
     boolean existsByUserAndScheduleItem(User user, ScheduleItem scheduleItem);
 
+    /**
+     * 상영관 입장 upsert (행 잠금 없이 (user_id, schedule_item_id) 유니크 키로 중복 방지)
+     * - WAITING/PLAYING 스케줄인 경우에만 INSERT 대상 행이 생김 (구독 검증은 호출 전에 수행)
+     * - 기존 기록이 있으면 퇴장 시각을 지우고 입장 시각만 갱신 (재입장)
+     * - 반환값 0: 검증 실패 (입장 불가 상태 / 스케줄 없음)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "INSERT INTO watch_histories " +
+            "(user_id, schedule_item_id, enter_at, left_at, view_counted, created_at, updated_at) " +
+            "SELECT :userId, si.schedule_item_id, :now, NULL, FALSE, :now, :now " +
+            "FROM schedule_items si " +
+            "WHERE si.schedule_item_id = :scheduleItemId " +
+            "AND si.status IN ('WAITING', 'PLAYING') " +
+            "ON DUPLICATE KEY UPDATE left_at = NULL, enter_at = :now, updated_at = :now",
+            nativeQuery = true)
+    int upsertEnter(@Param("userId") Long userId,
+                    @Param("scheduleItemId") Long scheduleItemId,
+                    @Param("now") LocalDateTime now);
+
+    /**
+     * 입장 응답용 시청 기록 조회 (스케줄/콘텐츠 함께 로딩)
+     */
+    @Query("SELECT wh FROM WatchHistory wh " +
+            "JOIN FETCH wh.scheduleItem si " +
+            "JOIN FETCH si.content " +
+            "WHERE wh.user.userId = :userId " +
+            "AND si.scheduleItemId = :scheduleItemId")
+    Optional<WatchHistory> findWithContentByUserIdAndScheduleItemId(@Param("userId") Long userId,
+                                                                    @Param("scheduleItemId") Long scheduleItemId);
+
+    /**
+     * 상영 종료(CLOSED) 시 새로 집계될 시청 기록 수 - 콘텐츠별 (closeByScheduleItemIds 직전에 같은 트랜잭션에서 조회)
+     * - 조회수 집계 대상: countedBefore 이전 입장, 미집계
+     */
+    @Query("SELECT si.content.contentId, COUNT(wh) FROM WatchHistory wh " +
+            "JOIN wh.scheduleItem si " +
+            "WHERE si.scheduleItemId IN :scheduleItemIds " +
+            "AND wh.leftAt IS NULL " +
+            "AND wh.viewCounted = false " +
+            "AND wh.enterAt <= :countedBefore " +
+            "GROUP BY si.content.contentId")
+    List<Object[]> countCountableByContent(@Param("scheduleItemIds") Collection<Long> scheduleItemIds,
+                                           @Param("countedBefore") LocalDateTime countedBefore);
+
+    /**
+     * 상영 종료(CLOSED) 시 남아 있는 시청 기록 일괄 퇴장 처리 (스케줄 묶음 단위 1회)
+     * - 조회수 집계 대상(countedBefore 이전 입장, 미집계)은 같은 UPDATE 에서 집계 완료로 표시
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE WatchHistory wh SET wh.leftAt = :now, wh.updatedAt = :now, " +
+            "wh.viewCounted = CASE WHEN wh.viewCounted = false AND wh.enterAt <= :countedBefore " +
+            "THEN true ELSE wh.viewCounted END " +
+            "WHERE wh.scheduleItem.scheduleItemId IN :scheduleItemIds " +
+            "AND wh.leftAt IS NULL")
+    int closeByScheduleItemIds(@Param("scheduleItemIds") Collection<Long> scheduleItemIds,
+                               @Param("now") LocalDateTime now,
+                               @Param("countedBefore") LocalDateTime countedBefore);
+
+    /**
+     * 소켓 종료 사용자들의 남은 시청 기록 조회 + 잠금 (퇴장 처리까지 다른 퇴장/재입장과 겹치지 않도록)
+     * - 상영관 목록 × 사용자 목록으로 조회하므로 실제 (상영관, 사용자) 조합은 호출한 쪽에서 골라냄
+     * - 반환: [watchId, scheduleItemId, userId, enterAt, viewCounted]
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT wh.watchId, wh.scheduleItem.scheduleItemId, wh.user.userId, wh.enterAt, wh.viewCounted " +
+            "FROM WatchHistory wh " +
+            "WHERE wh.scheduleItem.scheduleItemId IN :scheduleItemIds " +
+            "AND wh.user.userId IN :userIds " +
+            "AND wh.leftAt IS NULL")
+    List<Object[]> findOpenForUpdate(@Param("scheduleItemIds") Collection<Long> scheduleItemIds,
+                                     @Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 시청 기록 일괄 퇴장 처리 (findOpenForUpdate 로 골라낸 기록, 묶음 단위 1회)
+     * - 조회수 집계 대상(countedBefore 이전 입장, 미집계)은 같은 UPDATE 에서 집계 완료로 표시
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE WatchHistory wh SET wh.leftAt = :now, wh.updatedAt = :now, " +
+            "wh.viewCounted = CASE WHEN wh.viewCounted = false AND wh.enterAt <= :countedBefore " +
+            "THEN true ELSE wh.viewCounted END " +
+            "WHERE wh.watchId IN :watchIds " +
+            "AND wh.leftAt IS NULL")
+    int closeByIds(@Param("watchIds") Collection<Long> watchIds,
+                   @Param("now") LocalDateTime now,
+                   @Param("countedBefore") LocalDateTime countedBefore);
 }
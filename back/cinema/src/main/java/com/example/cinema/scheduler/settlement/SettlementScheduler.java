@@ -1,5 +1,7 @@
 package com.example.cinema.scheduler.settlement;
 
+import com.example.cinema.service.cluster.JobLeaseService;
+import com.example.cinema.service.content.ContentViewCounter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
@@ -26,12 +28,18 @@ public class SettlementScheduler {
     
     private final JobLauncher jobLauncher;
     private final Job settlementJob;
+    private final ContentViewCounter contentViewCounter;
+    private final JobLeaseService jobLeaseService;
     
 //     테스트용: 1분마다 실행
 //     @Scheduled(cron = "0 * * * * ?") // 매분 0초에 실행 (1분마다)
     // 운영용: 매월 1일 00:00:00 실행
      @Scheduled(cron = "0 0 0 1 * ?") // 매월 1일 00:00:00
     public void executeMonthlySettlement() {
+        // 여러 노드 중 임대를 가진 노드만 정산 Job 실행
+        if (!jobLeaseService.isLeader(JobLeaseService.MONTHLY_SETTLEMENT)) {
+            return;
+        }
         try {
             // 전월 기간 계산
             LocalDate now = LocalDate.now();
@@ -52,6 +60,9 @@ public class SettlementScheduler {
                 .addLong("timestamp", System.currentTimeMillis())
                 .toJobParameters();
             
+            // 메모리에 누적된 조회수를 먼저 반영 (monthView 기준 정산)
+            contentViewCounter.flush();
+
             // Job 실행
             log.info("정산 Job 실행 시작: period={}~{}", lastMonthStart, lastMonthEnd);
             jobLauncher.run(settlementJob, jobParameters);
@@ -1,6 +1,7 @@
 package com.example.cinema.scheduler.subscription;
 
 import com.example.cinema.entity.Subscription;
+import com.example.cinema.service.cluster.JobLeaseService;
 import com.example.cinema.service.subscription.SubscriptionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,10 +17,15 @@ import java.util.List;
 public class SubscriptionScheduler {
 
     private final SubscriptionService subscriptionService;
+    private final JobLeaseService jobLeaseService;
 
     // 매일 오전 3시 (03:00:00) 실행
     @Scheduled(cron = "0 0 3 * * *")
     public void scheduleRecurringPayment() {
+        // 여러 노드 중 임대를 가진 노드만 결제 (중복 결제 방지)
+        if (!jobLeaseService.isLeader(JobLeaseService.RECURRING_PAYMENT)) {
+            return;
+        }
         log.info("=== Starting Recurring Payment Schedule ===");
 
         // 1. 대상 조회 (Read-Only)
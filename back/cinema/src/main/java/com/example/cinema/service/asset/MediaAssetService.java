@@ -6,6 +6,7 @@ import com.example.cinema.entity.User;
 import com.example.cinema.exception.BusinessException;
 import com.example.cinema.exception.ErrorCode;
 import com.example.cinema.repository.mediaAsset.MediaAssetRepository;
+import com.example.cinema.service.theater.TheaterPlaybackService;
 import com.example.cinema.type.AssetType;
 import com.example.cinema.type.Visibility;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +20,7 @@ import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 public class MediaAssetService {
 
     private final MediaAssetRepository mediaAssetRepository;
+    private final TheaterPlaybackService playbackService;
 
     @Value("${aws.s3.bucket}")
     private String bucket;
@@ -54,5 +56,8 @@ public class MediaAssetService {
             case VIDEO_HLS_MASTER -> content.attachAssets(null, null, asset);
             default -> throw new BusinessException("지원하지 않는 에셋 타입입니다: " + type, ErrorCode.INVALID_INPUT_VALUE);
         }
+        if (type != AssetType.POSTER_IMAGE) {
+            playbackService.evictContent(content.getContentId());
+        }
     }
 }
\ No newline at end of file
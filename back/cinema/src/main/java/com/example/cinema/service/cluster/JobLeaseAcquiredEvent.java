@@ -0,0 +1,7 @@
+package com.example.cinema.service.cluster;
+
+/**
+ * 이 노드가 작업 임대를 새로 얻었을 때 발행 (기동 직후 최초 획득 / 다른 노드에서 인계)
+ */
+public record JobLeaseAcquiredEvent(String jobName) {
+}
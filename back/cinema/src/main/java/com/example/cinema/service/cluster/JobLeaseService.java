@@ -0,0 +1,168 @@
+package com.example.cinema.service.cluster;
+
+import com.example.cinema.dto.cluster.JobLeaseResponse;
+import com.example.cinema.repository.cluster.JobLeaseRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 주기 작업 리더 선출 (DB 임대 방식)
+ * - 작업마다 job_leases 한 행, lease_until 전까지는 owner 노드만 작업 실행
+ * - renew-ms 마다 보유 임대를 ttl-ms 만큼 연장하고, 만료된 임대는 먼저 UPDATE 에 성공한 노드가 인계
+ * - 리더 노드가 죽으면 ttl-ms 안에 다른 노드가 인계, 정상 종료 시에는 임대를 바로 만료시켜 즉시 인계
+ * - lease_until 비교 / 기록은 DB 시계 기준, 노드 메모리의 보유 만료 시각은 갱신 요청 전 시각 + ttl-ms 로 보수적으로 계산
+ * - 노드 메모리에만 있는 작업(조회수 flush, 접속자 정리 등)은 대상이 아님
+ */
+@Slf4j
+@Service
+public class JobLeaseService {
+
+    public static final String SCHEDULE_STATUS = "schedule-status";
+    public static final String RECURRING_PAYMENT = "recurring-payment";
+    public static final String MONTHLY_SETTLEMENT = "monthly-settlement";
+    public static final String CONTENT_CLEANUP = "content-cleanup";
+
+    private static final List<String> JOBS = List.of(SCHEDULE_STATUS, RECURRING_PAYMENT, MONTHLY_SETTLEMENT, CONTENT_CLEANUP);
+
+    private final JobLeaseRepository jobLeaseRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Getter
+    private final String nodeId;
+
+    @Value("${cluster.lease.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${cluster.lease.ttl-ms:15000}")
+    private long ttlMs = 15_000;
+
+    @Value("${cluster.lease.renew-ms:5000}")
+    private long renewMs = 5_000;
+
+    /** jobName -> 이 노드가 보유한 임대 만료 시각 (epoch ms) */
+    private final ConcurrentHashMap<String, Long> held = new ConcurrentHashMap<>();
+
+    public JobLeaseService(JobLeaseRepository jobLeaseRepository,
+                           ApplicationEventPublisher eventPublisher,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${cluster.node-id:}") String nodeId,
+                           @Value("${server.port:8080}") int port) {
+        this.jobLeaseRepository = jobLeaseRepository;
+        this.eventPublisher = eventPublisher;
+        // 작업 트랜잭션 안에서 호출돼도 임대 행 잠금을 작업이 끝날 때까지 잡고 있지 않도록 분리
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.nodeId = nodeId.isBlank() ? hostName() + ":" + port : nodeId;
+    }
+
+    /**
+     * 이 노드가 작업을 실행해도 되는지 (임대가 곧 만료되면 DB 에서 갱신 / 인계 시도)
+     */
+    public boolean isLeader(String jobName) {
+        if (!enabled) {
+            return true;
+        }
+        Long until = held.get(jobName);
+        if (until != null && System.currentTimeMillis() < until - renewMs) {
+            return true;
+        }
+        return acquire(jobName);
+    }
+
+    /**
+     * 모든 작업의 임대 갱신 / 인계 시도 (기동 직후 + renew-ms 마다)
+     */
+    @Scheduled(fixedDelayString = "${cluster.lease.renew-ms:5000}")
+    public void renew() {
+        if (!enabled) {
+            return;
+        }
+        for (String jobName : JOBS) {
+            boolean wasHeld = held.containsKey(jobName);
+            if (acquire(jobName) && !wasHeld) {
+                // 작업 실행 시점에 얻은 임대는 그 작업이 바로 실행되므로 알리지 않음
+                eventPublisher.publishEvent(new JobLeaseAcquiredEvent(jobName));
+            }
+        }
+    }
+
+    /**
+     * 작업별 임대 현황 (만료된 임대 포함)
+     */
+    public List<JobLeaseResponse> getLeases() {
+        LocalDateTime now = LocalDateTime.now();
+        return jobLeaseRepository.findAll().stream()
+                .map(lease -> JobLeaseResponse.of(lease, nodeId, now))
+                .toList();
+    }
+
+    @PreDestroy
+    public void release() {
+        if (!enabled || held.isEmpty()) {
+            return;
+        }
+        held.clear();
+        try {
+            Integer released = transactionTemplate.execute(status -> jobLeaseRepository.releaseAll(nodeId));
+            log.info("Job leases released: node={}, count={}", nodeId, released);
+        } catch (RuntimeException e) {
+            // 반납 실패 시 ttl-ms 후 자연 만료
+            log.warn("Job lease release failed: node={}, err={}", nodeId, e.getMessage());
+        }
+    }
+
+    private boolean acquire(String jobName) {
+        long now = System.currentTimeMillis();
+        long ttlMicros = ttlMs * 1000;
+        boolean acquired;
+        try {
+            acquired = Boolean.TRUE.equals(transactionTemplate.execute(status ->
+                    jobLeaseRepository.renewOrTakeOver(jobName, nodeId, ttlMicros) == 1
+                            || !jobLeaseRepository.existsById(jobName)
+                            && jobLeaseRepository.insert(jobName, nodeId, ttlMicros) == 1));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 같은 작업을 먼저 등록
+            acquired = false;
+        } catch (RuntimeException e) {
+            // DB 장애 시 보유 임대도 만료 시각까지만 유효
+            log.warn("Job lease renew failed: job={}, node={}, err={}", jobName, nodeId, e.getMessage());
+            Long heldUntil = held.get(jobName);
+            return heldUntil != null && now < heldUntil;
+        }
+
+        if (!acquired) {
+            if (held.remove(jobName) != null) {
+                log.warn("Job lease lost: job={}, node={}", jobName, nodeId);
+            }
+            return false;
+        }
+        if (held.put(jobName, now + ttlMs) == null) {
+            log.info("Job lease acquired: job={}, node={}", jobName, nodeId);
+        }
+        return true;
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
@@ -14,6 +14,7 @@ import com.example.cinema.repository.content.ContentRepository;
 import com.example.cinema.repository.mediaAsset.MediaAssetRepository;
 import com.example.cinema.repository.user.UserRepository;
 import com.example.cinema.service.media.CloudFrontUrlService;
+import com.example.cinema.service.theater.TheaterPlaybackService;
 import com.example.cinema.type.AssetType;
 import com.example.cinema.type.ContentStatus;
 import lombok.RequiredArgsConstructor;
@@ -29,6 +30,7 @@ public class ContentService {
     private final MediaAssetRepository mediaAssetRepository;
     private final UserRepository userRepository;
     private final CloudFrontUrlService cloudFrontUrlService;
+    private final TheaterPlaybackService playbackService;
 
     //1차 컨텐츠 등록
     @Transactional
@@ -102,6 +104,7 @@ public class ContentService {
        //기본 정보 수정 및 애셋 수정
         content.updateInfo(updateRequest.getTitle(), updateRequest.getDescription(), updateRequest.getStatus());
         content.attachAssets(poster, videoSourceAsset, videoHlsMasterAssetId);
+        playbackService.evictContent(content.getContentId());
 
 
         return ContentEditResponse.from(content);
@@ -0,0 +1,135 @@
+package com.example.cinema.service.content;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.example.cinema.util.TransactionUtil.afterCommit;
+
+/**
+ * 콘텐츠 조회수 집계
+ * - 퇴장 시 contents 행을 바로 갱신하지 않고 contentId 별 LongAdder 에 누적
+ *   (인기 콘텐츠의 같은 행 잠금에 퇴장 요청이 몰리지 않도록)
+ * - flush-ms 마다 누적분을 JDBC batch UPDATE 로 반영, 종료 시 / 정산 Job 실행 전에도 반영
+ * - 반영 대기 중인 조회수와 flush 소요 시간을 주기적으로 로그 출력
+ * 카운터는 콘텐츠 수만큼만 유지 (제거 시 동시 증가분 유실을 막기 위해 비우기만 함)
+ */
+@Slf4j
+@Component
+public class ContentViewCounter {
+
+    private static final String INCREMENT_VIEW =
+            "UPDATE contents SET total_view = total_view + ?, month_view = month_view + ? WHERE content_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ConcurrentHashMap<Long, LongAdder> counters = new ConcurrentHashMap<>();
+
+    private final LongAdder flushedViews = new LongAdder();
+    private final LongAdder failedFlushes = new LongAdder();
+    private volatile long lastFlushMillis;
+    private volatile long maxFlushMillis;
+
+    private long lastReportedFlushed;
+
+    public ContentViewCounter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        // 호출한 쪽 트랜잭션과 분리 + batch 전체를 원자적으로 반영 (실패 시 되돌린 누적분이 중복 반영되지 않도록)
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 조회수 1 증가 (트랜잭션 안에서 호출되면 커밋 이후에 누적 → 롤백 시 중복 집계 방지)
+     */
+    public void increment(long contentId) {
+        increment(contentId, 1L);
+    }
+
+    /**
+     * 조회수 delta 증가 (일괄 퇴장 처리 등)
+     */
+    public void increment(long contentId, long delta) {
+        if (delta <= 0) {
+            return;
+        }
+        afterCommit(() -> counter(contentId).add(delta));
+    }
+
+    private LongAdder counter(long contentId) {
+        return counters.computeIfAbsent(contentId, id -> new LongAdder());
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 조회수 합계
+     */
+    public long getPendingIncrements() {
+        long pending = 0;
+        for (LongAdder counter : counters.values()) {
+            pending += counter.sum();
+        }
+        return pending;
+    }
+
+    public long getLastFlushMillis() {
+        return lastFlushMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${content.view-count.flush-ms:5000}")
+    public synchronized void flush() {
+        List<Object[]> updates = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : counters.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta > 0) {
+                updates.add(new Object[]{delta, delta, entry.getKey()});
+            }
+        }
+        if (updates.isEmpty()) {
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INCREMENT_VIEW, updates));
+            updates.forEach(update -> flushedViews.add((long) update[0]));
+        } catch (Exception e) {
+            // 반영 실패분은 카운터에 되돌려 다음 주기에 재시도
+            updates.forEach(update -> counter((Long) update[2]).add((long) update[0]));
+            failedFlushes.increment();
+            log.warn("조회수 반영 실패 (다음 주기에 재시도): contents={}, err={}", updates.size(), e.getMessage());
+        } finally {
+            lastFlushMillis = (System.nanoTime() - startedAt) / 1_000_000;
+            maxFlushMillis = Math.max(maxFlushMillis, lastFlushMillis);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${content.view-count.report-ms:60000}")
+    public void report() {
+        long flushed = flushedViews.sum();
+        if (flushed == lastReportedFlushed && failedFlushes.sum() == 0) {
+            return;
+        }
+        log.info("Content view counter: flushedViews={}, pendingIncrements={}, lastFlushMs={}, maxFlushMs={}, failedFlushes={}",
+                flushed - lastReportedFlushed, getPendingIncrements(), lastFlushMillis, maxFlushMillis,
+                failedFlushes.sumThenReset());
+        lastReportedFlushed = flushed;
+        maxFlushMillis = 0;
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+}
@@ -5,6 +5,7 @@ import com.example.cinema.entity.MediaAsset;
 import com.example.cinema.exception.BusinessException;
 import com.example.cinema.exception.ErrorCode;
 import com.example.cinema.repository.content.ContentRepository;
+import com.example.cinema.service.theater.TheaterPlaybackService;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class EncodingTxService {
 
     private final ContentRepository contentRepository;
+    private final TheaterPlaybackService playbackService;
 
     @PersistenceContext
     private EntityManager em;
@@ -29,6 +31,7 @@ public class EncodingTxService {
 
         MediaAsset ref = em.getReference(MediaAsset.class, hlsAssetId);
         content.attachAssets(null, null, ref);
+        playbackService.evictContent(contentId);
     }
 
     @Transactional
@@ -1,5 +1,6 @@
 package com.example.cinema.service.schedule;
 
+import com.example.cinema.config.ScheduleTransitionTimer;
 import com.example.cinema.dto.common.PageResponse;
 import com.example.cinema.dto.schedule.*;
 import com.example.cinema.entity.Content;
@@ -11,29 +12,81 @@ import com.example.cinema.exception.ErrorCode;
 import com.example.cinema.repository.content.ContentRepository;
 import com.example.cinema.repository.schedule.ScheduleDayRepository;
 import com.example.cinema.repository.schedule.ScheduleItemRepository;
+import com.example.cinema.repository.user.UserRepository;
 import com.example.cinema.type.ContentStatus;
 import com.example.cinema.type.ScheduleStatus;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 /**
  * 영화 상영 일정(스케줄) 관리를 담당하는 서비스 클래스입니다.
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ScheduleService {
 
+    private static final String INSERT_SCHEDULE_DAY =
+            "INSERT INTO schedule_days (content_id, schedule_date, is_locked, created_at, updated_at) VALUES (?, ?, false, ?, ?)";
+    private static final String INSERT_SCHEDULE_ITEM =
+            "INSERT INTO schedule_items (schedule_day_id, content_id, owner_user_id, start_at, end_at, status, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
     private final ScheduleDayRepository scheduleDayRepository;
     private final ScheduleItemRepository scheduleItemRepository;
     private final ContentRepository contentRepository;
+    private final UserRepository userRepository;
+    private final ScheduleTransitionTimer transitionTimer;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${schedule.bulk.max-slots:500}")
+    private int maxBulkSlots = 500;
+
+    // 일정 하나의 최대 상영 길이 (겹침 검사가 이 길이만큼 앞선 일정까지만 읽음)
+    @Value("${schedule.max-duration-hours:24}")
+    private long maxDurationHours = 24;
+
+    private record Slot(LocalDateTime startAt, LocalDateTime endAt) {
+    }
+
+    /**
+     * owner_user_id 가 비어 있는 기존 일정을 채웁니다. (컬럼 추가 이전 데이터)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillOwnerIds() {
+        int updated = scheduleItemRepository.backfillOwnerIds();
+        if (updated > 0) {
+            log.info("Schedule owner ids backfilled: count={}", updated);
+        }
+    }
 
     /**
      * 상영 일정을 검색합니다.
@@ -68,6 +121,7 @@ public class ScheduleService {
         validateOwner(requester.getUserId(), content.getOwner().getUserId());
         validateContentStatus(content);
         validateTimeRange(request.getStartAt(), request.getEndAt());
+        lockOwner(content.getOwner().getUserId());
         validateCreatorOverlap(content.getOwner().getUserId(), request.getStartAt(), request.getEndAt(), null);
 
         ScheduleDay scheduleDay = getOrCreateScheduleDay(content, request.getScheduleDate());
@@ -76,14 +130,73 @@ public class ScheduleService {
         ScheduleItem scheduleItem = scheduleItemRepository.save(ScheduleItem.builder()
                 .scheduleDay(scheduleDay)
                 .content(content)
+                .ownerId(content.getOwner().getUserId())
                 .startAt(request.getStartAt())
                 .endAt(request.getEndAt())
                 .status(ScheduleStatus.CLOSED)
                 .build());
+        transitionTimer.register(scheduleItem.getScheduleItemId(), scheduleItem.getStartAt(), scheduleItem.getEndAt());
 
         return new ScheduleCreateResponse(scheduleItem.getScheduleItemId(), scheduleDay.getScheduleDayId());
     }
 
+    /**
+     * 여러 상영 일정을 한 번에 생성합니다. (직접 지정한 슬롯 + 반복 규칙)
+     * 슬롯끼리 / 기존 일정과의 겹침을 한 번에 검사한 뒤 편성 일자와 일정을 JDBC batch 로 저장합니다.
+     * 생성된 일정 ID 는 batch 의 생성 키로 돌려받습니다.
+     */
+    @Transactional
+    public ScheduleBulkCreateResponse createSchedules(ScheduleBulkCreateRequest request, User requester) {
+        Content content = getContent(request.getContentId());
+        Long ownerId = content.getOwner().getUserId();
+
+        validateOwner(requester.getUserId(), ownerId);
+        validateContentStatus(content);
+        List<Slot> slots = expandSlots(request);
+        lockOwner(ownerId);
+        validateSlotsOverlap(ownerId, slots);
+
+        Map<LocalDate, Long> scheduleDayIds = getOrCreateScheduleDays(content,
+                slots.stream().map(slot -> slot.startAt().toLocalDate()).collect(Collectors.toCollection(TreeSet::new)));
+
+        LocalDateTime now = LocalDateTime.now();
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SCHEDULE_ITEM, new String[]{"schedule_item_id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Slot slot = slots.get(i);
+                        ps.setLong(1, scheduleDayIds.get(slot.startAt().toLocalDate()));
+                        ps.setLong(2, content.getContentId());
+                        ps.setLong(3, ownerId);
+                        ps.setObject(4, slot.startAt());
+                        ps.setObject(5, slot.endAt());
+                        ps.setString(6, ScheduleStatus.CLOSED.name());
+                        ps.setObject(7, now);
+                        ps.setObject(8, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return slots.size();
+                    }
+                },
+                keyHolder);
+
+        // 생성 키는 INSERT 순서대로 반환 (키 컬럼 이름은 드라이버마다 달라 첫 값을 사용)
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        List<ScheduleCreateResponse> created = new ArrayList<>(slots.size());
+        for (int i = 0; i < slots.size(); i++) {
+            Slot slot = slots.get(i);
+            long scheduleItemId = ((Number) keys.get(i).values().iterator().next()).longValue();
+            transitionTimer.register(scheduleItemId, slot.startAt(), slot.endAt());
+            created.add(new ScheduleCreateResponse(scheduleItemId, scheduleDayIds.get(slot.startAt().toLocalDate())));
+        }
+
+        return new ScheduleBulkCreateResponse(content.getContentId(), created.size(), created);
+    }
+
     /**
      * 기존 상영 일정의 상영 시간을 수정합니다.
      */
@@ -92,9 +205,11 @@ public class ScheduleService {
         ScheduleItem item = validateModifyAccess(scheduleItemId, requester);
 
         validateTimeRange(request.getStartAt(), request.getEndAt());
+        lockOwner(item.getContent().getOwner().getUserId());
         validateCreatorOverlap(item.getContent().getOwner().getUserId(), request.getStartAt(), request.getEndAt(), item.getScheduleItemId());
 
         item.update(request.getStartAt(), request.getEndAt());
+        transitionTimer.register(item.getScheduleItemId(), item.getStartAt(), item.getEndAt());
         return ScheduleItemResponse.from(item);
     }
 
@@ -113,6 +228,7 @@ public class ScheduleService {
     public void deleteSchedule(Long scheduleItemId, User requester) {
         ScheduleItem item = validateModifyAccess(scheduleItemId, requester);
         scheduleItemRepository.delete(item);
+        transitionTimer.cancel(scheduleItemId);
     }
 
     /**
@@ -167,6 +283,110 @@ public class ScheduleService {
                         .build()));
     }
 
+    /**
+     * 요청한 날짜의 편성 일자를 조회하고, 없는 날짜는 batch 로 생성합니다. (확정된 날짜가 있으면 거부)
+     */
+    private Map<LocalDate, Long> getOrCreateScheduleDays(Content content, Set<LocalDate> dates) {
+        Map<LocalDate, Long> scheduleDayIds = new HashMap<>();
+        for (ScheduleDay scheduleDay : scheduleDayRepository.findAllByContent_ContentIdAndScheduleDateIn(content.getContentId(), dates)) {
+            validateScheduleUnlocked(scheduleDay);
+            scheduleDayIds.put(scheduleDay.getScheduleDate(), scheduleDay.getScheduleDayId());
+        }
+        if (scheduleDayIds.size() == dates.size()) {
+            return scheduleDayIds;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(INSERT_SCHEDULE_DAY, dates.stream()
+                .filter(date -> !scheduleDayIds.containsKey(date))
+                .map(date -> new Object[]{content.getContentId(), date, now, now})
+                .toList());
+        for (ScheduleDay scheduleDay : scheduleDayRepository.findAllByContent_ContentIdAndScheduleDateIn(content.getContentId(), dates)) {
+            scheduleDayIds.put(scheduleDay.getScheduleDate(), scheduleDay.getScheduleDayId());
+        }
+        return scheduleDayIds;
+    }
+
+    /**
+     * 직접 지정한 슬롯과 반복 규칙을 펼쳐 시작 시각 순으로 정렬합니다.
+     */
+    private List<Slot> expandSlots(ScheduleBulkCreateRequest request) {
+        List<Slot> slots = new ArrayList<>();
+        if (request.getSlots() != null) {
+            for (ScheduleSlotRequest slot : request.getSlots()) {
+                if (slot.getStartAt() == null || slot.getEndAt() == null) {
+                    throw new BusinessException("상영 시작 / 종료 시간을 입력해주세요.", ErrorCode.INVALID_INPUT_VALUE);
+                }
+                slots.add(new Slot(slot.getStartAt(), slot.getEndAt()));
+            }
+        }
+
+        ScheduleRecurrenceRequest recurrence = request.getRecurrence();
+        if (recurrence != null) {
+            if (recurrence.getStartDate() == null || recurrence.getEndDate() == null
+                    || recurrence.getStartTimes() == null || recurrence.getStartTimes().isEmpty()
+                    || recurrence.getDurationMinutes() == null || recurrence.getDurationMinutes() <= 0
+                    || recurrence.getStartDate().isAfter(recurrence.getEndDate())) {
+                throw new BusinessException("반복 규칙이 올바르지 않습니다.", ErrorCode.INVALID_INPUT_VALUE);
+            }
+            Set<DayOfWeek> daysOfWeek = recurrence.getDaysOfWeek() == null || recurrence.getDaysOfWeek().isEmpty()
+                    ? EnumSet.allOf(DayOfWeek.class)
+                    : EnumSet.copyOf(recurrence.getDaysOfWeek());
+            for (LocalDate date = recurrence.getStartDate(); !date.isAfter(recurrence.getEndDate()); date = date.plusDays(1)) {
+                if (!daysOfWeek.contains(date.getDayOfWeek())) {
+                    continue;
+                }
+                for (LocalTime startTime : recurrence.getStartTimes()) {
+                    LocalDateTime startAt = date.atTime(startTime);
+                    slots.add(new Slot(startAt, startAt.plusMinutes(recurrence.getDurationMinutes())));
+                }
+                if (slots.size() > maxBulkSlots) {
+                    break;
+                }
+            }
+        }
+
+        if (slots.isEmpty()) {
+            throw new BusinessException("생성할 상영 일정이 없습니다.", ErrorCode.INVALID_INPUT_VALUE);
+        }
+        if (slots.size() > maxBulkSlots) {
+            throw new BusinessException("한 번에 생성할 수 있는 상영 일정은 최대 " + maxBulkSlots + "개입니다.", ErrorCode.INVALID_INPUT_VALUE);
+        }
+        slots.forEach(slot -> validateTimeRange(slot.startAt(), slot.endAt()));
+        slots.sort(Comparator.comparing(Slot::startAt));
+        return slots;
+    }
+
+    /**
+     * 정렬된 슬롯끼리, 그리고 기존 일정(구간 조회 1회)과의 겹침을 한 번의 순회로 검사합니다.
+     * 기존 일정끼리 겹쳐 있어도(이전 데이터 등) 정확하도록, 슬롯 종료 전에 시작한 기존 일정의 가장 늦은 종료 시간과 비교합니다.
+     */
+    private void validateSlotsOverlap(Long ownerId, List<Slot> slots) {
+        LocalDateTime from = slots.get(0).startAt();
+        LocalDateTime to = slots.stream().map(Slot::endAt).max(Comparator.naturalOrder()).orElseThrow();
+        List<ScheduleItem> existing = scheduleItemRepository.findAllByOwnerOverlapping(ownerId, from.minusHours(maxDurationHours), from, to);
+
+        int next = 0;
+        LocalDateTime latestEnd = null;
+        Slot previous = null;
+        for (Slot slot : slots) {
+            if (previous != null && slot.startAt().isBefore(previous.endAt())) {
+                throw new BusinessException("요청한 상영 일정끼리 시간이 겹칩니다. 시작: " + slot.startAt(), ErrorCode.SCHEDULE_CONFLICT);
+            }
+            // 슬롯 종료 시간은 슬롯 순서대로 늘어나므로, 이 슬롯 종료 전에 시작한 기존 일정을 누적하며 가장 늦은 종료 시간만 유지
+            while (next < existing.size() && existing.get(next).getStartAt().isBefore(slot.endAt())) {
+                LocalDateTime endAt = existing.get(next++).getEndAt();
+                if (latestEnd == null || endAt.isAfter(latestEnd)) {
+                    latestEnd = endAt;
+                }
+            }
+            if (latestEnd != null && latestEnd.isAfter(slot.startAt())) {
+                throw new BusinessException("해당 시간에 이미 등록된 스케줄이 존재합니다. 시작: " + slot.startAt(), ErrorCode.SCHEDULE_CONFLICT);
+            }
+            previous = slot;
+        }
+    }
+
     private void validateOwner(Long requesterId, Long ownerId) {
         if (!requesterId.equals(ownerId)) {
             throw new BusinessException("접근 권한이 없습니다. 본인의 콘텐츠만 관리할 수 있습니다.", ErrorCode.ACCESS_DENIED);
@@ -183,6 +403,9 @@ public class ScheduleService {
         if (start.isAfter(end)) {
             throw new BusinessException("시작 시간은 종료 시간보다 앞서야 합니다.", ErrorCode.INVALID_INPUT_VALUE);
         }
+        if (start.plusHours(maxDurationHours).isBefore(end)) {
+            throw new BusinessException("상영 일정은 최대 " + maxDurationHours + "시간까지 등록할 수 있습니다.", ErrorCode.INVALID_INPUT_VALUE);
+        }
     }
 
     private void validateScheduleUnlocked(ScheduleDay scheduleDay) {
@@ -191,8 +414,17 @@ public class ScheduleService {
         }
     }
 
+    /**
+     * 창작자 행을 잠가 같은 창작자의 일정 생성 / 수정을 직렬화합니다.
+     * (겹침 검사와 저장 사이에 다른 요청이 같은 시간대 일정을 저장하지 않도록, 커밋 시 해제)
+     */
+    private void lockOwner(Long ownerId) {
+        userRepository.findByIdForUpdate(ownerId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+    }
+
     private void validateCreatorOverlap(Long ownerId, LocalDateTime start, LocalDateTime end, Long excludeId) {
-        if (scheduleItemRepository.existsOverlapByOwner(ownerId, start, end, excludeId)) {
+        if (scheduleItemRepository.existsOverlappingByOwner(ownerId, start.minusHours(maxDurationHours), start, end, excludeId)) {
             throw new BusinessException("해당 시간에 이미 등록된 스케줄이 존재합니다.", ErrorCode.SCHEDULE_CONFLICT);
         }
     }
@@ -8,6 +8,7 @@ import com.example.cinema.entity.Settlement;
 import com.example.cinema.entity.User;
 import com.example.cinema.repository.settlement.SettlementRepository;
 import com.example.cinema.repository.user.UserRepository;
+import com.example.cinema.service.content.ContentViewCounter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
@@ -36,6 +37,7 @@ public class SettlementService {
     private final UserRepository userRepository;
     private final JobLauncher jobLauncher;
     private final Job settlementJob;
+    private final ContentViewCounter contentViewCounter;
     
     /**
      * 정산 내역 조회
@@ -117,6 +119,9 @@ public class SettlementService {
                 .addLong("timestamp", System.currentTimeMillis())
                 .toJobParameters();
             
+            // 메모리에 누적된 조회수를 먼저 반영 (monthView 기준 정산)
+            contentViewCounter.flush();
+
             // Job 실행
             log.info("정산 Job 수동 실행: period={}~{}", periodStart, periodEnd);
             var jobExecution = jobLauncher.run(settlementJob, jobParameters);
@@ -0,0 +1,87 @@
+package com.example.cinema.service.subscription;
+
+import com.example.cinema.repository.subscription.SubscriptionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.example.cinema.util.TransactionUtil.nowAndAfterCommit;
+
+/**
+ * 구독 이용 권한 조회 ("userId 가 지금 구독 중인가")
+ * - 상영관 입장 / 재생 정보 요청마다 User → Subscription 을 읽지 않도록 메모리에 캐시
+ * - 활성 구독은 currentPeriodEnd 또는 ttl 중 빠른 시점까지, 그 외(미구독 / 해지 / 기간 경과 후 결제 대기)는 ttl 까지 유효
+ * - 구독 생성 / 해지 / 갱신 / 정기 결제 처리 시 evict (트랜잭션 중이면 커밋 후 한 번 더 제거)
+ * - 조회 → 저장 사이에 evict 가 끼면 이전 상태가 다시 캐시되므로, 조회 전 세대(generation)를 읽어 두고
+ *   저장 시점에 세대가 바뀌었으면 저장하지 않음 (evict 와 저장은 같은 키의 compute 안에서 직렬화)
+ * - evict 는 이 노드의 캐시만 지움: 다른 노드는 최대 ttl(기본 10분) 동안 이전 상태를 볼 수 있음
+ *   (해지 후 그 시간만큼 재생이 허용될 수 있으므로, 즉시 반영이 필요하면 subscription.entitlement.ttl-ms 를 줄일 것)
+ */
+@Service
+@RequiredArgsConstructor
+public class SubscriptionEntitlementService {
+
+    private record Entitlement(boolean active, long expiresAt) {
+    }
+
+    private final SubscriptionRepository subscriptionRepository;
+
+    private final ConcurrentHashMap<Long, Entitlement> entitlements = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    @Value("${subscription.entitlement.max-size:100000}")
+    private int maxSize = 100_000;
+
+    @Value("${subscription.entitlement.ttl-ms:600000}")
+    private long ttlMs = 600_000;
+
+    public boolean isEntitled(long userId) {
+        long now = System.currentTimeMillis();
+        Entitlement entitlement = entitlements.get(userId);
+        if (entitlement != null && entitlement.expiresAt() > now) {
+            return entitlement.active();
+        }
+
+        long loadedAt = generation.get();
+        Entitlement loaded = load(userId, now);
+        if (entitlements.size() >= maxSize) {
+            entitlements.values().removeIf(e -> e.expiresAt() <= now);
+        }
+        if (entitlements.size() < maxSize) {
+            // 조회 중 evict 가 있었다면 조회 결과가 이전 상태일 수 있으므로 저장하지 않음
+            entitlements.compute(userId, (id, prev) -> generation.get() == loadedAt ? loaded : prev);
+        }
+        return loaded.active();
+    }
+
+    public void evict(long userId) {
+        nowAndAfterCommit(() -> remove(userId));
+    }
+
+    private void remove(long userId) {
+        entitlements.compute(userId, (id, prev) -> {
+            generation.incrementAndGet();
+            return null;
+        });
+    }
+
+    private Entitlement load(long userId, long now) {
+        return subscriptionRepository.findBySubscriber_UserIdAndIsActiveTrue(userId)
+                .map(subscription -> new Entitlement(true, expiresAt(subscription.getCurrentPeriodEnd(), now)))
+                .orElseGet(() -> new Entitlement(false, now + ttlMs));
+    }
+
+    private long expiresAt(LocalDateTime periodEnd, long now) {
+        if (periodEnd == null) {
+            return now + ttlMs;
+        }
+        long periodEndMs = periodEnd.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        // 기간이 지났는데 아직 활성 상태 = 정기 결제 처리 대기 → ttl 마다 다시 확인
+        return periodEndMs > now ? Math.min(periodEndMs, now + ttlMs) : now + ttlMs;
+    }
+}
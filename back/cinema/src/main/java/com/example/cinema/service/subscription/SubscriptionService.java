@@ -1,5 +1,6 @@
 package com.example.cinema.service.subscription;
 
+import com.example.cinema.config.common.PrincipalCache;
 import com.example.cinema.dto.billing.BillingResponse;
 import com.example.cinema.dto.common.PageResponse;
 import com.example.cinema.dto.subscription.*;
@@ -41,6 +42,8 @@ public class SubscriptionService {
     private final PaymentRepository paymentRepository;
     private final UserRepository userRepository;
     private final TossPaymentClient tossPaymentClient;
+    private final PrincipalCache principalCache;
+    private final SubscriptionEntitlementService entitlementService;
 
 
     // 구독 생성 및 초기 결제
@@ -192,9 +195,11 @@ public class SubscriptionService {
         // 구독 취소 (Entity 메서드 활용)
         subscription.cancel();
         subscriptionRepository.save(subscription);
+        entitlementService.evict(user.getUserId());
 
         // [추가] 판매자 권한 제거
         user.demoteFromSeller();
+        principalCache.evict(user.getEmail());
 
         // 빌링키도 해지(REVOKED) 처리
         if (subscription.getBillingKey() != null) {
@@ -241,6 +246,8 @@ public class SubscriptionService {
         // [추가] 결제 성공 시 유저를 판매자로 변경
         User user = subscription.getSubscriber();
         user.promoteToSeller();
+        principalCache.evict(user.getEmail());
+        entitlementService.evict(user.getUserId());
 
         return FirstSubscriptionResponse.from(
                 SubscriptionResponse.from(subscription),
@@ -294,6 +301,7 @@ public class SubscriptionService {
 
                 // [추가] 결제 성공 확인 시 다시 한번 보장 (선택 사항)
                 subscription.getSubscriber().promoteToSeller();
+                principalCache.evict(subscription.getSubscriber().getEmail());
             } else {
                 // 결제 실패
                 subscription.cancel();
@@ -310,6 +318,8 @@ public class SubscriptionService {
             // 여기서는 안전하게 '구독 취소' 처리 시도
             subscription.cancel();
         }
+        // 갱신 / 결제 실패 취소 모두 이용 권한이 바뀌므로 캐시 제거
+        entitlementService.evict(subscription.getSubscriber().getUserId());
     }
 
     private LocalDateTime parseDateTime(String dateTimeStr) {
@@ -10,6 +10,7 @@ import com.example.cinema.repository.billing.BillingKeyRepository;
 import com.example.cinema.repository.payment.PaymentRepository;
 import com.example.cinema.repository.subscription.SubscriptionRepository;
 import com.example.cinema.repository.user.UserRepository;
+import com.example.cinema.service.subscription.SubscriptionEntitlementService;
 import com.example.cinema.type.BillingKeyStatus;
 import com.example.cinema.type.BillingProvider;
 import com.example.cinema.type.PaymentStatus;
@@ -36,6 +37,7 @@ public class BillingTestService {
     private final SubscriptionRepository subscriptionRepository;
     private final PaymentRepository paymentRepository;
     private final TossPaymentClient tossPaymentClient;
+    private final SubscriptionEntitlementService entitlementService;
 
         /**
      * 테스트용 사용자를 생성하거나 조회합니다.
@@ -176,6 +178,7 @@ public class BillingTestService {
 
         if (subscription != null) {
             subscription.cancel(); // Entity에 cancel 메서드 확인 필요, 없으면 아래처럼 직접 상태 변경
+            entitlementService.evict(user.getUserId());
             // subscriptionRepository.save(...) 
             
             BillingKey billingKey = subscription.getBillingKey();
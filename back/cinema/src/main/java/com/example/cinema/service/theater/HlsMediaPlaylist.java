@@ -0,0 +1,115 @@
+package com.example.cinema.service.theater;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * HlsTranscodeService 가 올린 VOD 미디어 플레이리스트(index.m3u8)의 세그먼트 목록
+ * - 콘텐츠 당 한 번 파싱해 메모리에 보관, 세그먼트 URI 는 CloudFront 절대 URL 로 변환해 둠
+ * - 상영 시작 후 경과 시간으로 현재 세그먼트를 찾고, 그 세그먼트까지의 슬라이딩 윈도우를 라이브 플레이리스트로 렌더링
+ */
+class HlsMediaPlaylist {
+
+    private final String[] durations;
+    private final String[] uris;
+    /** i 번째 세그먼트 시작 시각(ms), 마지막 원소 = 전체 길이 */
+    private final long[] startMs;
+    private final int targetDuration;
+
+    private HlsMediaPlaylist(List<String> durations, List<String> uris, int targetDuration) {
+        this.durations = durations.toArray(String[]::new);
+        this.uris = uris.toArray(String[]::new);
+        this.startMs = new long[this.durations.length + 1];
+        double elapsedSeconds = 0.0;
+        for (int i = 0; i < this.durations.length; i++) {
+            elapsedSeconds += Double.parseDouble(this.durations[i]);
+            startMs[i + 1] = Math.round(elapsedSeconds * 1000);
+        }
+        this.targetDuration = targetDuration;
+    }
+
+    static HlsMediaPlaylist parse(String m3u8, UnaryOperator<String> uriResolver) {
+        List<String> durations = new ArrayList<>();
+        List<String> uris = new ArrayList<>();
+        int targetDuration = 0;
+        String pendingDuration = null;
+
+        for (String raw : m3u8.split("\r?\n")) {
+            String line = raw.trim();
+            if (line.isEmpty()) {
+                continue;
+            }
+            if (line.startsWith("#EXT-X-TARGETDURATION:")) {
+                targetDuration = Integer.parseInt(line.substring(22).trim());
+            } else if (line.startsWith("#EXTINF:")) {
+                int comma = line.indexOf(',');
+                pendingDuration = line.substring(8, comma > 0 ? comma : line.length()).trim();
+            } else if (!line.startsWith("#") && pendingDuration != null) {
+                durations.add(pendingDuration);
+                uris.add(uriResolver.apply(line));
+                pendingDuration = null;
+            }
+        }
+
+        if (durations.isEmpty()) {
+            throw new IllegalStateException("세그먼트가 없는 플레이리스트입니다.");
+        }
+        if (targetDuration <= 0) {
+            targetDuration = (int) Math.ceil(durations.stream().mapToDouble(Double::parseDouble).max().orElse(1.0));
+        }
+        return new HlsMediaPlaylist(durations, uris, targetDuration);
+    }
+
+    int segmentCount() {
+        return durations.length;
+    }
+
+    long durationMs() {
+        return startMs[durations.length];
+    }
+
+    /**
+     * 경과 시간이 속한 세그먼트 번호 (전체 길이 이상이면 segmentCount)
+     */
+    int segmentAt(long elapsedMs) {
+        if (elapsedMs >= durationMs()) {
+            return durations.length;
+        }
+        int found = Arrays.binarySearch(startMs, Math.max(0L, elapsedMs));
+        return found >= 0 ? found : -found - 2;
+    }
+
+    /**
+     * 세그먼트 종료 시각(ms), 상영이 끝난 뒤(segmentCount)는 Long.MAX_VALUE
+     */
+    long segmentEndMs(int segment) {
+        return segment >= durations.length ? Long.MAX_VALUE : startMs[segment + 1];
+    }
+
+    /**
+     * 현재 세그먼트까지 최대 windowSize 개를 담은 라이브 플레이리스트
+     * - #EXT-X-MEDIA-SEQUENCE = 윈도우 첫 세그먼트 번호 (시작 시각 기준으로 모든 시청자에게 동일)
+     * - 마지막 세그먼트까지 지나면 #EXT-X-ENDLIST
+     */
+    String render(int segment, int windowSize) {
+        boolean ended = segment >= durations.length;
+        int last = ended ? durations.length - 1 : segment;
+        int first = Math.max(0, last - windowSize + 1);
+
+        StringBuilder sb = new StringBuilder(128 + (last - first + 1) * 160)
+                .append("#EXTM3U\n")
+                .append("#EXT-X-VERSION:3\n")
+                .append("#EXT-X-TARGETDURATION:").append(targetDuration).append('\n')
+                .append("#EXT-X-MEDIA-SEQUENCE:").append(first).append('\n');
+        for (int i = first; i <= last; i++) {
+            sb.append("#EXTINF:").append(durations[i]).append(",\n")
+                    .append(uris[i]).append('\n');
+        }
+        if (ended) {
+            sb.append("#EXT-X-ENDLIST\n");
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,260 @@
+package com.example.cinema.service.theater;
+
+import com.example.cinema.dto.theater.TheaterAdmissionResponse;
+import com.example.cinema.service.subscription.SubscriptionEntitlementService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상영관 입장 제어 (노드 단위 가상 대기열)
+ * - 상영관 당 동시 시청자 수를 capacity 로 제한 (현재 시청자 + 사용 전 입장권)
+ * - 자리가 없으면 FIFO 대기열에 등록하고, 자리가 나면 앞에서부터 짧은 유효기간의 입장권 발급
+ * - 대기 순번 / 입장권은 /user/queue/theaters/{id}/admission 으로 푸시
+ *   (/topic/theaters/** 구독은 Presence 입장으로 집계되므로 사용자 목적지 사용)
+ * - TheaterEnterService.enter 는 입장권을 검증한 뒤 사용 처리
+ * - 대기열은 WAITING / PLAYING 일정에만 생성 (Presence 상영관을 먼저 열어 현재 시청자 수도 함께 초기화)
+ * - 소켓이 모두 끊긴 사용자는 푸시를 받을 수 없으므로 대기열에서 제거 (재요청 시 맨 뒤로 다시 등록)
+ * - 비활성(기본값)이면 항상 입장권 없이 즉시 입장
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TheaterAdmissionService {
+
+    private final TheaterPresenceRegistry presenceRegistry;
+    private final SubscriptionEntitlementService entitlementService;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Value("${theater.admission.enabled:false}")
+    private boolean enabled;
+
+    @Value("${theater.admission.capacity:1000}")
+    private int capacity = 1000;
+
+    @Value("${theater.admission.ticket-ttl-ms:30000}")
+    private long ticketTtlMs = 30_000;
+
+    /** scheduleId -> 대기열 / 발급된 입장권 */
+    private final ConcurrentHashMap<Long, Room> rooms = new ConcurrentHashMap<>();
+
+    private record Ticket(String token, long expiresAtMs) {
+    }
+
+    /** 대기 순번 / 입장권 푸시 대상 */
+    private record Notice(String username, TheaterAdmissionResponse response) {
+    }
+
+    /** 상영관 단위 상태 (Room 모니터로 보호) */
+    private static final class Room {
+        /** userId -> STOMP 사용자명 (등록 순서 = 대기 순서) */
+        private final LinkedHashMap<Long, String> waiting = new LinkedHashMap<>();
+        /** userId -> 사용 전 입장권 */
+        private final HashMap<Long, Ticket> tickets = new HashMap<>();
+        /** 마지막 푸시 이후 대기 순번이 바뀌었는지 */
+        private boolean moved;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 입장 요청: 자리가 있고 앞선 대기자가 없으면 입장권 발급, 아니면 대기열 등록
+     * 같은 사용자의 재요청은 기존 입장권 / 대기 순번을 그대로 반환
+     */
+    public TheaterAdmissionResponse request(long scheduleId, long userId, String username) {
+        if (!entitlementService.isEntitled(userId)) {
+            throw new AccessDeniedException("구독이 필요한 서비스입니다.");
+        }
+        if (!enabled) {
+            return TheaterAdmissionResponse.admitted(scheduleId, null, 0L);
+        }
+
+        // 없는 일정 / 종료된 일정으로 대기열이 생기지 않도록 (이미 열린 상영관은 메모리 조회)
+        if (!presenceRegistry.open(scheduleId)) {
+            throw new IllegalStateException("현재 입장할 수 없는 상영관입니다.");
+        }
+        Room room = rooms.computeIfAbsent(scheduleId, id -> new Room());
+        long now = System.currentTimeMillis();
+        synchronized (room) {
+            expireTickets(room, now);
+
+            Ticket ticket = room.tickets.get(userId);
+            if (ticket != null) {
+                return TheaterAdmissionResponse.admitted(scheduleId, ticket.token(), ticket.expiresAtMs());
+            }
+            if (room.waiting.containsKey(userId)) {
+                return TheaterAdmissionResponse.waiting(scheduleId, positionOf(room, userId));
+            }
+            // 이미 시청 중인 사용자(새로고침 등)는 자리를 다시 차지하지 않으므로 대기 없이 발급
+            if (presenceRegistry.contains(scheduleId, userId)
+                    || (room.waiting.isEmpty() && occupied(scheduleId, room) < capacity)) {
+                ticket = issue(room, userId, now);
+                return TheaterAdmissionResponse.admitted(scheduleId, ticket.token(), ticket.expiresAtMs());
+            }
+
+            room.waiting.put(userId, username);
+            return TheaterAdmissionResponse.waiting(scheduleId, room.waiting.size());
+        }
+    }
+
+    /**
+     * 입장 전 입장권 검증 (사용 처리는 입장 완료 후 ticketUsed)
+     */
+    public void checkTicket(long scheduleId, long userId, String token) {
+        if (!enabled) {
+            return;
+        }
+        Room room = rooms.get(scheduleId);
+        if (room == null || token == null) {
+            throw new AccessDeniedException("입장권이 필요합니다.");
+        }
+        synchronized (room) {
+            Ticket ticket = room.tickets.get(userId);
+            if (ticket == null || !ticket.token().equals(token)
+                    || ticket.expiresAtMs() <= System.currentTimeMillis()) {
+                throw new AccessDeniedException("입장권이 없거나 만료되었습니다.");
+            }
+        }
+    }
+
+    /**
+     * 입장 완료: 이후 자리는 Presence 시청자 수로 집계
+     */
+    public void ticketUsed(long scheduleId, long userId) {
+        Room room = rooms.get(scheduleId);
+        if (room == null) {
+            return;
+        }
+        synchronized (room) {
+            room.tickets.remove(userId);
+        }
+    }
+
+    /**
+     * 퇴장 / 대기 취소: 대기열과 입장권에서 제거
+     */
+    public void leave(long scheduleId, long userId) {
+        Room room = rooms.get(scheduleId);
+        if (room == null) {
+            return;
+        }
+        synchronized (room) {
+            room.tickets.remove(userId);
+            if (room.waiting.remove(userId) != null) {
+                room.moved = true;
+            }
+        }
+    }
+
+    /**
+     * 사용자의 마지막 소켓 종료: 모든 상영관 대기열에서 제거 (발급된 입장권은 유효기간까지 유지)
+     */
+    public void disconnected(long userId) {
+        if (!enabled) {
+            return;
+        }
+        for (Room room : rooms.values()) {
+            synchronized (room) {
+                if (room.waiting.remove(userId) != null) {
+                    room.moved = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * 빈 자리만큼 대기열 앞에서부터 입장권 발급 + 순번이 바뀐 대기자에게 푸시
+     * (락 안에서는 대상만 모으고 전송은 락 밖에서)
+     */
+    @Scheduled(fixedDelayString = "${theater.admission.admit-ms:1000}")
+    public void admitWaiting() {
+        if (!enabled || rooms.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for (Map.Entry<Long, Room> entry : rooms.entrySet()) {
+            long scheduleId = entry.getKey();
+            Room room = entry.getValue();
+            List<Notice> notices = new ArrayList<>();
+
+            synchronized (room) {
+                expireTickets(room, now);
+                int free = capacity - occupied(scheduleId, room);
+                Iterator<Map.Entry<Long, String>> it = room.waiting.entrySet().iterator();
+                while (free > 0 && it.hasNext()) {
+                    Map.Entry<Long, String> head = it.next();
+                    it.remove();
+                    Ticket ticket = issue(room, head.getKey(), now);
+                    notices.add(new Notice(head.getValue(),
+                            TheaterAdmissionResponse.admitted(scheduleId, ticket.token(), ticket.expiresAtMs())));
+                    room.moved = true;
+                    free--;
+                }
+                if (room.moved) {
+                    long position = 0;
+                    for (String username : room.waiting.values()) {
+                        notices.add(new Notice(username, TheaterAdmissionResponse.waiting(scheduleId, ++position)));
+                    }
+                    room.moved = false;
+                }
+            }
+
+            if (!notices.isEmpty()) {
+                log.debug("[ADMISSION] scheduleId={} notices={}", scheduleId, notices.size());
+            }
+            for (Notice notice : notices) {
+                messagingTemplate.convertAndSendToUser(notice.username(),
+                        "/queue/theaters/" + scheduleId + "/admission", notice.response());
+            }
+        }
+    }
+
+    /**
+     * 상영 종료(CLOSED)된 상영관 정리
+     */
+    public void evict(Collection<Long> scheduleIds) {
+        scheduleIds.forEach(rooms::remove);
+    }
+
+    private Ticket issue(Room room, long userId, long now) {
+        Ticket ticket = new Ticket(UUID.randomUUID().toString(), now + ticketTtlMs);
+        room.tickets.put(userId, ticket);
+        return ticket;
+    }
+
+    /** 사용하지 않고 만료된 입장권은 자리를 반환 */
+    private static void expireTickets(Room room, long now) {
+        room.tickets.values().removeIf(ticket -> ticket.expiresAtMs() <= now);
+    }
+
+    private int occupied(long scheduleId, Room room) {
+        return (int) presenceRegistry.count(scheduleId) + room.tickets.size();
+    }
+
+    private static long positionOf(Room room, long userId) {
+        long position = 0;
+        for (Long waitingUserId : room.waiting.keySet()) {
+            position++;
+            if (waitingUserId == userId) {
+                break;
+            }
+        }
+        return position;
+    }
+}
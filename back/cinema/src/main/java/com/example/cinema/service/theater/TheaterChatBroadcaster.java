@@ -0,0 +1,114 @@
+package com.example.cinema.service.theater;
+
+import com.example.cinema.config.webSocket.relay.TopicRelayInterceptor;
+import com.example.cinema.dto.theater.ChatResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 상영관 채팅 묶음 전송
+ * - 수신한 채팅을 scheduleId 별로 모아 두었다가 window 마다 배열 1건으로 전송
+ * - 한 프레임에 담는 최대 메시지 수는 max-batch 로 제한 (초과분은 다음 프레임)
+ * - 구독자 수 M, 초당 메시지 N 일 때 N×M 프레임을 (1000/window)×M 수준으로 줄임
+ * - 노드 간 중계: 받은 채팅을 seq 부여 전에 다른 노드로 보내고, 각 노드가 자기 버퍼에 seq 를 부여해 저장 / 전송
+ *   (중계받은 채팅도 최근 채팅 버퍼에 남아 재접속 시 이어받기 가능, seq 는 노드별)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TheaterChatBroadcaster {
+
+    private static final String RELAY_SUFFIX = "/chat/relay";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final TheaterChatHistory chatHistory;
+    private final TopicRelayInterceptor topicRelay;
+    private final ObjectMapper objectMapper;
+
+    private final ConcurrentHashMap<Long, Queue<ChatResponse>> pending = new ConcurrentHashMap<>();
+
+    @Value("${theater.chat.max-batch:100}")
+    private int maxBatch;
+
+    @PostConstruct
+    void subscribeRelay() {
+        topicRelay.handle(RELAY_SUFFIX, frame -> {
+            try {
+                publishLocal(objectMapper.readValue(frame.payload(), ChatResponse.class));
+            } catch (IOException e) {
+                log.warn("중계받은 채팅을 읽을 수 없습니다: destination={}, err={}", frame.destination(), e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 채팅 메시지 적재 (즉시 전송하지 않음) + 다른 노드로 중계
+     */
+    public ChatResponse publish(ChatResponse message) {
+        try {
+            topicRelay.publish("/topic/theaters/" + message.getScheduleId() + RELAY_SUFFIX,
+                    objectMapper.writeValueAsBytes(message));
+        } catch (IOException e) {
+            // 중계 실패가 로컬 전송을 막지 않도록 함
+            log.warn("채팅 중계 직렬화 실패: scheduleId={}, err={}", message.getScheduleId(), e.getMessage());
+        }
+        return publishLocal(message);
+    }
+
+    /**
+     * 최근 채팅 버퍼에 seq 를 부여해 저장한 뒤 같은 순서로 전송 큐에 넣음
+     * 큐 조회와 적재를 compute 안에서 처리 → flush 의 빈 큐 정리와 원자적 (정리된 큐에 적재되어 유실되지 않도록)
+     */
+    private ChatResponse publishLocal(ChatResponse message) {
+        ChatResponse[] stamped = new ChatResponse[1];
+        pending.compute(message.getScheduleId(), (id, queue) -> {
+            Queue<ChatResponse> target = queue != null ? queue : new ConcurrentLinkedQueue<>();
+            stamped[0] = chatHistory.append(message, target::add);
+            return target;
+        });
+        return stamped[0];
+    }
+
+    /**
+     * window 마다 쌓인 채팅을 상영관별로 전송
+     */
+    @Scheduled(fixedDelayString = "${theater.chat.window-ms:50}")
+    public void flush() {
+        for (var entry : pending.entrySet()) {
+            Queue<ChatResponse> queue = entry.getValue();
+            if (queue.isEmpty()) {
+                // 조용한 상영관은 정리 (publish 의 compute 와 같은 잠금 안에서 비어 있을 때만 제거)
+                pending.computeIfPresent(entry.getKey(), (id, current) -> current.isEmpty() ? null : current);
+                continue;
+            }
+            drain(entry.getKey(), queue);
+        }
+    }
+
+    private void drain(Long scheduleId, Queue<ChatResponse> queue) {
+        while (!queue.isEmpty()) {
+            List<ChatResponse> batch = new ArrayList<>(Math.min(maxBatch, 16));
+            ChatResponse message;
+            while (batch.size() < maxBatch && (message = queue.poll()) != null) {
+                batch.add(message);
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+            messagingTemplate.convertAndSend("/topic/theaters/" + scheduleId + "/chat", batch);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.cinema.service.theater;
+
+import com.example.cinema.dto.theater.ChatResponse;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 상영관별 최근 채팅 보관 (고정 크기 링 버퍼, DB 저장 없음)
+ * - 메시지마다 상영관 내 순번(seq)을 부여
+ *   버퍼 생성 시각(μs 단위)에서 시작하므로 버퍼가 해제된 뒤 다시 만들어져도 이전 seq 보다 큼
+ *   (클라이언트가 들고 있던 afterSeq 로 새 메시지를 놓치지 않음)
+ * - 중간 입장/재접속 시 마지막으로 받은 seq 이후 메시지만 복사해서 반환
+ * - 다른 노드에서 중계받은 채팅도 이 버퍼에서 seq 를 부여받음 (seq 는 노드별이므로 이어받기는 같은 노드 재접속 기준)
+ * - 상영 종료(CLOSED) 시 버퍼 해제
+ */
+@Service
+public class TheaterChatHistory {
+
+    private final ConcurrentHashMap<Long, Ring> rings = new ConcurrentHashMap<>();
+
+    @Value("${theater.chat.history-size:200}")
+    private int historySize = 200;
+
+    @PostConstruct
+    void validate() {
+        if (historySize < 1) {
+            throw new IllegalStateException("theater.chat.history-size 는 1 이상이어야 합니다: " + historySize);
+        }
+    }
+
+    /**
+     * seq 부여 후 버퍼에 저장하고, 같은 순서로 next 에 전달 (전송 큐 순서 = seq 순서)
+     */
+    public ChatResponse append(ChatResponse message, Consumer<ChatResponse> next) {
+        return rings.computeIfAbsent(message.getScheduleId(), id -> new Ring(historySize)).append(message, next);
+    }
+
+    /**
+     * afterSeq 이후 메시지 (버퍼에 남아 있는 범위 내, seq 오름차순)
+     */
+    public List<ChatResponse> after(long scheduleId, long afterSeq) {
+        Ring ring = rings.get(scheduleId);
+        return ring == null ? List.of() : ring.after(afterSeq);
+    }
+
+    public void evict(Collection<Long> scheduleIds) {
+        scheduleIds.forEach(rings::remove);
+    }
+
+    private static final class Ring {
+
+        private final ChatResponse[] slots;
+        private final long firstSeq;
+        private long lastSeq;
+
+        Ring(int capacity) {
+            this.slots = new ChatResponse[capacity];
+            this.lastSeq = System.currentTimeMillis() * 1_000;
+            this.firstSeq = lastSeq + 1;
+        }
+
+        synchronized ChatResponse append(ChatResponse message, Consumer<ChatResponse> next) {
+            ChatResponse stamped = message.withSeq(++lastSeq);
+            slots[(int) (stamped.getSeq() % slots.length)] = stamped;
+            next.accept(stamped);
+            return stamped;
+        }
+
+        synchronized List<ChatResponse> after(long afterSeq) {
+            long from = Math.max(Math.max(afterSeq + 1, lastSeq - slots.length + 1), firstSeq);
+            if (from > lastSeq) {
+                return List.of();
+            }
+            List<ChatResponse> result = new ArrayList<>((int) (lastSeq - from + 1));
+            for (long seq = from; seq <= lastSeq; seq++) {
+                result.add(slots[(int) (seq % slots.length)]);
+            }
+            return result;
+        }
+    }
+}
@@ -8,6 +8,8 @@ import com.example.cinema.entity.WatchHistory;
 import com.example.cinema.repository.schedule.ScheduleItemRepository;
 import com.example.cinema.repository.user.UserRepository;
 import com.example.cinema.repository.watchHistory.WatchHistoryRepository;
+import com.example.cinema.service.content.ContentViewCounter;
+import com.example.cinema.service.subscription.SubscriptionEntitlementService;
 import com.example.cinema.type.ScheduleStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,8 +17,11 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
+import static com.example.cinema.util.TransactionUtil.afterCommit;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -26,72 +31,50 @@ public class TheaterEnterService {
     private final WatchHistoryRepository watchHistoryRepository;
     private final ScheduleItemRepository scheduleItemRepository;
     private final UserRepository userRepository;
+    private final TheaterPresenceRegistry presenceRegistry;
+    private final WatchHistoryWriteBehind writeBehind;
+    private final ContentViewCounter contentViewCounter;
+    private final SubscriptionEntitlementService entitlementService;
+    private final TheaterAdmissionService admissionService;
 
     /**
      * 상영관 입장
-     * - 구독 상태 검증
-     * - 스케줄 상태 검증 (WAITING 또는 PLAYING)
-     * - 중복 입장 방지
+     * - upsert 1회 + 응답용 조회 1회 (사용자 행 잠금 없음)
+     * - 구독 검증은 메모리 캐시(SubscriptionEntitlementService), 스케줄 상태(WAITING 또는 PLAYING) 검증은 upsert 조건에 포함
+     * - 중복 입장은 (user_id, schedule_item_id) 유니크 키가 막고, 기존 기록은 재입장 처리
+     * - write-behind 모드: 검증 조회만 하고 기록은 저널에 남긴 뒤 메모리 상태로 응답
+     * - 입장 제어 사용 시 대기열에서 발급받은 입장권(ticket) 필요
+     * - Presence 반영과 입장권 소진은 커밋 후 (롤백되면 메모리 상태를 바꾸지 않음)
      */
     @Transactional
-    public TheaterEnterResponse enter(long scheduleId, User detachedUser) {
-        // 영속성 컨텍스트 내에서 User 다시 조회 + 잠금 (중복 입장 방지)
-        User user = userRepository.findByIdForUpdate(detachedUser.getUserId())
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
-        ScheduleItem scheduleItem = getScheduleItem(scheduleId);
-
-        // 구독 상태 검증
-        validateSubscription(user);
-
-        // 스케줄 상태 검증 (WAITING 또는 PLAYING만 입장 가능)
-        validateScheduleStatus(scheduleItem);
-
-        // 현재 입장 중인 기록이 있다면 재사용 (중복 생성 방지)
-        var activeHistories = watchHistoryRepository
-                .findAllByUserAndScheduleItemAndLeftAtIsNullOrderByCreatedAtDesc(user, scheduleItem);
-        if (!activeHistories.isEmpty()) {
-            WatchHistory current = activeHistories.get(0);
-            // 중복 활성 기록이 있으면 모두 종료 처리
-            if (activeHistories.size() > 1) {
-                for (int i = 1; i < activeHistories.size(); i++) {
-                    activeHistories.get(i).leave();
-                }
-            }
-            current.reEnter();
-            current.enter();
-            watchHistoryRepository.saveAll(activeHistories);
-            log.info("이미 입장 중인 기록 재사용: userId={}, scheduleId={}", user.getUserId(), scheduleId);
-            return TheaterEnterResponse.from(current);
+    public TheaterEnterResponse enter(long scheduleId, User detachedUser, String ticket) {
+        Long userId = detachedUser.getUserId();
+        validateSubscription(userId);
+        admissionService.checkTicket(scheduleId, userId, ticket);
+
+        if (writeBehind.isEnabled()) {
+            ScheduleItem scheduleItem = getScheduleItem(scheduleId);
+            validateScheduleStatus(scheduleItem);
+            WatchHistoryWriteBehind.Session session =
+                    writeBehind.enter(userId, scheduleId, scheduleItem.getContent().getTitle());
+            entered(scheduleId, userId);
+            return TheaterEnterResponse.builder()
+                    .scheduleItemId(scheduleId)
+                    .contentTitle(session.contentTitle())
+                    .enteredAt(session.enteredAt())
+                    .build();
         }
 
-        // 과거 기록이 있는 경우 (가장 최근 기록 사용)
-        if (watchHistoryRepository.existsByUserAndScheduleItem(user, scheduleItem)) {
-            WatchHistory history = watchHistoryRepository.findTopByUserAndScheduleItemOrderByCreatedAtDesc(user, scheduleItem)
-                    .orElseThrow(() -> new IllegalArgumentException("해당하는 유저가 없습니다"));
-            history.reEnter();
-            history.enter();
-            log.info("기존 시청 기록으로 재입장: userId={}, scheduleId={}", user.getUserId(), scheduleId);
-            watchHistoryRepository.saveAndFlush(history);
-
-            return TheaterEnterResponse.from(history);
+        int affected = watchHistoryRepository.upsertEnter(userId, scheduleId, LocalDateTime.now());
+        if (affected == 0) {
+            // 검증 실패 시에만 원인 확인용 조회 (정상 경로에서는 실행되지 않음)
+            throw rejectReason(scheduleId);
         }
 
-//        // 이미 입장한 경우 (퇴장하지 않은 기록이 있으면)
-//        if (watchHistoryRepository.existsByUserAndScheduleItemAndLeftAtIsNull(user, scheduleItem)) {
-//
-//            var history = watchHistoryRepository.findByUserAndScheduleItem(user, scheduleItem)
-//                    .orElseThrow(() -> new IllegalArgumentException("해당하는 유저가 없습니다."));
-//
-//            history.reEnter();
-//            history.enter();
-//
-//            return TheaterEnterResponse.from(history);
-//        }
-        // 시청 기록 생성
-        WatchHistory history = watchHistoryRepository.saveAndFlush(WatchHistory.create(user, scheduleItem));
-        history.enter();
-        log.info("새 시청 기록 생성: userId={}, scheduleId={}", user.getUserId(), scheduleId);
+        WatchHistory history = watchHistoryRepository.findWithContentByUserIdAndScheduleItemId(userId, scheduleId)
+                .orElseThrow(() -> new IllegalStateException("시청 기록을 찾을 수 없습니다."));
+        entered(scheduleId, userId);
+        log.info("상영관 입장: userId={}, scheduleId={}, watchId={}", userId, scheduleId, history.getWatchId());
         return TheaterEnterResponse.from(history);
     }
 
@@ -100,15 +83,20 @@ public class TheaterEnterService {
      */
     @Transactional
     public TheaterLeaveResponse leave(long scheduleId, User detachedUser) {
-        // 영속성 컨텍스트 내에서 User 다시 조회
-        User user = userRepository.findById(detachedUser.getUserId())
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        admissionService.leave(scheduleId, detachedUser.getUserId());
+        if (writeBehind.isEnabled()) {
+            return leaveWriteBehind(scheduleId, detachedUser.getUserId());
+        }
+
+        // 인증된 사용자이므로 조회 없이 참조만 사용
+        User user = userRepository.getReferenceById(detachedUser.getUserId());
 
         ScheduleItem scheduleItem = getScheduleItem(scheduleId);
 
         // 입장 기록 조회 (퇴장하지 않은 기록)
         Optional<WatchHistory> historyOpt = watchHistoryRepository
                 .findByUserAndScheduleItemAndLeftAtIsNull(user, scheduleItem);
+        afterCommit(() -> presenceRegistry.leave(scheduleId, user.getUserId()));
 
         // 입장 기록이 없으면 gracefully 처리
         if (historyOpt.isEmpty()) {
@@ -121,19 +109,50 @@ public class TheaterEnterService {
         // 퇴장 처리
         history.leave();
         if (!history.getViewCounted() && history.isDiffMoreThanTenMinutes()) {
-            scheduleItem.getContent().incrementView();
+            contentViewCounter.increment(scheduleItem.getContent().getContentId());
             history.setViewCounted(true);
         }
 
         return TheaterLeaveResponse.from(history);
     }
 
+    /**
+     * write-behind 모드 퇴장: DB 조회 없이 저널 기록 + 메모리 상태로 응답
+     * (퇴장 시각 / 조회수 반영은 writer 가 처리)
+     */
+    private TheaterLeaveResponse leaveWriteBehind(long scheduleId, long userId) {
+        afterCommit(() -> presenceRegistry.leave(scheduleId, userId));
+        LocalDateTime leftAt = LocalDateTime.now();
+        WatchHistoryWriteBehind.Session session = writeBehind.leave(userId, scheduleId, leftAt);
+        if (session == null) {
+            return TheaterLeaveResponse.builder().scheduleItemId(scheduleId).leftAt(leftAt).build();
+        }
+        return TheaterLeaveResponse.builder()
+                .scheduleItemId(scheduleId)
+                .contentTitle(session.contentTitle())
+                .enteredAt(session.enteredAt())
+                .leftAt(leftAt)
+                .build();
+    }
+
     /**
      * 현재 시청 중인 사용자 수 조회
+     * - DB COUNT 대신 Presence 레지스트리(메모리) 조회
+     * - 상영 중이 아닌 일정은 0, 없는 일정은 예외
      */
     public long getViewerCount(long scheduleId) {
-        ScheduleItem scheduleItem = getScheduleItem(scheduleId);
-        return watchHistoryRepository.countByScheduleItemAndLeftAtIsNull(scheduleItem);
+        if (!presenceRegistry.open(scheduleId)) {
+            getScheduleItem(scheduleId);
+            return 0L;
+        }
+        return presenceRegistry.count(scheduleId);
+    }
+
+    private void entered(long scheduleId, long userId) {
+        afterCommit(() -> {
+            presenceRegistry.enter(scheduleId, userId);
+            admissionService.ticketUsed(scheduleId, userId);
+        });
     }
 
     private ScheduleItem getScheduleItem(long scheduleId) {
@@ -141,8 +160,13 @@ public class TheaterEnterService {
                 .orElseThrow(() -> new IllegalArgumentException("스케줄을 찾을 수 없습니다."));
     }
 
-    private void validateSubscription(User user) {
-        if (user.getSubscription() == null || !user.getSubscription().getIsActive()) {
+    private RuntimeException rejectReason(long scheduleId) {
+        validateScheduleStatus(getScheduleItem(scheduleId));
+        return new IllegalStateException("현재 입장할 수 없는 상영관입니다.");
+    }
+
+    private void validateSubscription(long userId) {
+        if (!entitlementService.isEntitled(userId)) {
             throw new AccessDeniedException("구독이 필요한 서비스입니다.");
         }
     }
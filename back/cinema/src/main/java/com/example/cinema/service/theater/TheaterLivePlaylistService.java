@@ -0,0 +1,172 @@
+package com.example.cinema.service.theater;
+
+import com.example.cinema.entity.MediaAsset;
+import com.example.cinema.entity.ScheduleItem;
+import com.example.cinema.entity.User;
+import com.example.cinema.exception.BusinessException;
+import com.example.cinema.exception.ErrorCode;
+import com.example.cinema.infra.s3.S3ObjectService;
+import com.example.cinema.repository.schedule.ScheduleItemRepository;
+import com.example.cinema.service.media.CloudFrontUrlService;
+import com.example.cinema.service.subscription.SubscriptionEntitlementService;
+import com.example.cinema.type.ScheduleStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상영관 라이브 플레이리스트 (scheduleId 별 live.m3u8)
+ * - VOD 세그먼트를 startAt 기준 슬라이딩 윈도우로 노출해 모든 시청자가 같은 지점을 재생
+ * - 세그먼트 목록: 콘텐츠 당 한 번 S3 에서 index.m3u8 을 읽어 파싱 후 보관
+ *   (맵에는 future 만 먼저 등록하고 S3 조회는 맵 밖에서 수행, 실패하면 제거해 다음 요청이 재시도)
+ * - 렌더링 결과: 상영관 당 현재 윈도우 1개만 보관, 세그먼트 하나가 지날 때까지 모든 시청자가 공유
+ * - CLOSED 전환 시 제거 (ScheduleStatusScheduler)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TheaterLivePlaylistService {
+
+    /** 상영 시작 시각 + 콘텐츠 (재생 목록 조회용) */
+    private record Screening(long contentId, long startAtMs, String playlistKey) {
+    }
+
+    /** 렌더링된 윈도우 (segment = 윈도우의 현재 세그먼트 번호) */
+    private record RenderedWindow(int segment, String body, long expiresAtMs) {
+    }
+
+    /** 응답 본문 + 다음 윈도우까지 남은 시간 (Cache-Control max-age 용) */
+    public record LivePlaylist(String body, long maxAgeMs) {
+    }
+
+    private final ScheduleItemRepository scheduleItemRepository;
+    private final S3ObjectService s3ObjectService;
+    private final CloudFrontUrlService cloudFrontUrlService;
+    private final SubscriptionEntitlementService entitlementService;
+
+    private final ConcurrentHashMap<Long, Screening> screenings = new ConcurrentHashMap<>();
+    /** contentId -> 파싱된 세그먼트 목록 (조회 중이면 미완료) */
+    private final ConcurrentHashMap<Long, CompletableFuture<HlsMediaPlaylist>> playlists = new ConcurrentHashMap<>();
+    /** scheduleId -> 현재 윈도우 */
+    private final ConcurrentHashMap<Long, RenderedWindow> windows = new ConcurrentHashMap<>();
+
+    @Value("${theater.live-playlist.window-segments:5}")
+    private int windowSegments = 5;
+
+    public LivePlaylist getLivePlaylist(long scheduleId, User detachedUser) {
+        if (!entitlementService.isEntitled(detachedUser.getUserId())) {
+            throw new AccessDeniedException("구독이 필요한 서비스입니다.");
+        }
+
+        Screening screening = screenings.get(scheduleId);
+        if (screening == null) {
+            screening = load(scheduleId);
+        }
+
+        long now = System.currentTimeMillis();
+        long elapsedMs = now - screening.startAtMs();
+        if (elapsedMs < 0) {
+            throw new BusinessException("상영 시작 전입니다.", ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        Screening s = screening;
+        HlsMediaPlaylist playlist = playlist(s);
+
+        int segment = playlist.segmentAt(elapsedMs);
+        RenderedWindow window = windows.compute(scheduleId, (id, current) ->
+                current != null && current.segment() == segment
+                        ? current
+                        : new RenderedWindow(segment, playlist.render(segment, windowSegments),
+                        satAdd(s.startAtMs(), playlist.segmentEndMs(segment))));
+
+        long maxAgeMs = window.expiresAtMs() == Long.MAX_VALUE
+                ? playlist.durationMs()
+                : Math.max(0L, window.expiresAtMs() - now);
+        return new LivePlaylist(window.body(), maxAgeMs);
+    }
+
+    /**
+     * 상영 종료(CLOSED)된 상영관 정리, 더 이상 상영하지 않는 콘텐츠의 세그먼트 목록도 제거
+     */
+    public void evict(Collection<Long> scheduleIds) {
+        for (Long scheduleId : scheduleIds) {
+            windows.remove(scheduleId);
+            screenings.remove(scheduleId);
+        }
+        playlists.keySet().removeIf(contentId ->
+                screenings.values().stream().noneMatch(s -> s.contentId() == contentId));
+    }
+
+    private Screening load(long scheduleId) {
+        ScheduleItem scheduleItem = scheduleItemRepository.findAllWithVideoByIdIn(List.of(scheduleId)).stream()
+                .findFirst()
+                .orElseThrow(() -> new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND));
+        MediaAsset hls = scheduleItem.getContent().getVideoHlsMaster();
+        if (hls == null) {
+            throw new BusinessException("HLS 변환이 완료되지 않은 콘텐츠입니다.", ErrorCode.CONTENT_NOT_FOUND);
+        }
+
+        Screening screening = new Screening(
+                scheduleItem.getContent().getContentId(),
+                scheduleItem.getStartAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(),
+                hls.getObjectKey());
+        if (scheduleItem.getStatus() != ScheduleStatus.CLOSED) {
+            screenings.put(scheduleId, screening);
+        }
+        return screening;
+    }
+
+    /**
+     * 콘텐츠 당 한 번만 S3 조회
+     * - computeIfAbsent 안에서 조회하면 같은 해시 버킷의 다른 키까지 S3 응답을 기다리므로, 빈 future 만 등록하고
+     *   등록한 요청이 맵 밖에서 조회 후 완료 (동시 요청은 future 에서 대기)
+     */
+    private HlsMediaPlaylist playlist(Screening screening) {
+        CompletableFuture<HlsMediaPlaylist> created = new CompletableFuture<>();
+        CompletableFuture<HlsMediaPlaylist> future = playlists.putIfAbsent(screening.contentId(), created);
+        if (future == null) {
+            future = created;
+            try {
+                created.complete(fetch(screening));
+            } catch (RuntimeException e) {
+                playlists.remove(screening.contentId(), created);
+                created.completeExceptionally(e);
+            }
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof BusinessException be) {
+                throw be;
+            }
+            throw e;
+        }
+    }
+
+    private HlsMediaPlaylist fetch(Screening screening) {
+        String key = screening.playlistKey();
+        String dir = key.substring(0, key.lastIndexOf('/') + 1);
+        try {
+            HlsMediaPlaylist playlist = HlsMediaPlaylist.parse(s3ObjectService.readUtf8(key),
+                    uri -> cloudFrontUrlService.toPublicUrl(dir + uri));
+            log.info("[LIVE-PLAYLIST] loaded contentId={} segments={} durationMs={}",
+                    screening.contentId(), playlist.segmentCount(), playlist.durationMs());
+            return playlist;
+        } catch (RuntimeException e) {
+            throw new BusinessException("재생 목록을 불러올 수 없습니다: " + e.getMessage(), ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private static long satAdd(long a, long b) {
+        return b == Long.MAX_VALUE ? Long.MAX_VALUE : a + b;
+    }
+}
@@ -6,13 +6,30 @@ import com.example.cinema.entity.MediaAsset;
 import com.example.cinema.entity.ScheduleItem;
 import com.example.cinema.entity.User;
 import com.example.cinema.repository.schedule.ScheduleItemRepository;
-import com.example.cinema.repository.user.UserRepository;
 import com.example.cinema.service.media.CloudFrontUrlService;
+import com.example.cinema.service.subscription.SubscriptionEntitlementService;
+import com.example.cinema.type.ScheduleStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.example.cinema.util.TransactionUtil.nowAndAfterCommit;
+
+/**
+ * 상영관 재생 정보
+ * - 스케줄 → 콘텐츠 → 영상 자산 → CloudFront URL 결과는 모든 시청자에게 같으므로 scheduleId 별로 캐시
+ * - WAITING 전환 시 미리 적재, CLOSED 전환 시 제거 (ScheduleStatusScheduler)
+ * - HLS 마스터가 연결된 결과만 캐시 (영상 없음 / 원본 mp4 는 인코딩 완료 후 바뀌므로 매번 조회)
+ * - 콘텐츠의 영상 자산이 바뀌면 evictContent() 로 해당 콘텐츠의 일정 캐시 제거 (커밋 후 한 번 더)
+ *   다른 노드의 캐시는 제거되지 않으나, HLS 가 이미 연결된 콘텐츠는 다시 인코딩하지 않으므로 영향 없음
+ * - 요청마다 수행하는 것은 사용자 구독 검증뿐 (SubscriptionEntitlementService 메모리 캐시)
+ */
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -20,26 +37,83 @@ public class TheaterPlaybackService {
 
     private final ScheduleItemRepository scheduleItemRepository;
     private final CloudFrontUrlService cloudFrontUrlService;
-    private final UserRepository userRepository;
+    private final SubscriptionEntitlementService entitlementService;
 
-    public PlaybackInfoResponse getPlaybackInfo(long scheduleId, User detachedUser) {
-        // 영속성 컨텍스트 내에서 User 다시 조회 (Lazy Loading 문제 해결)
-        User user = userRepository.findById(detachedUser.getUserId())
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+    /** scheduleId -> 재생 정보 (HLS 만) */
+    private final ConcurrentHashMap<Long, CachedPlayback> playbackInfos = new ConcurrentHashMap<>();
 
-        // 구독 상태 검증
-        if (user.getSubscription() == null || !user.getSubscription().getIsActive()) {
+    private record CachedPlayback(long contentId, PlaybackInfoResponse info) {
+    }
+
+    /**
+     * 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행 (미스 시 조회 1회만 자체 트랜잭션)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public PlaybackInfoResponse getPlaybackInfo(long scheduleId, User detachedUser) {
+        // 구독 상태 검증 (메모리 캐시, User / Subscription 조회 없음)
+        if (!entitlementService.isEntitled(detachedUser.getUserId())) {
             throw new AccessDeniedException("구독이 필요한 서비스입니다.");
         }
 
-        // 스케줄 조회
-        ScheduleItem scheduleItem = scheduleItemRepository.findById(scheduleId)
+        CachedPlayback cached = playbackInfos.get(scheduleId);
+        if (cached != null) {
+            return cached.info();
+        }
+        return load(scheduleId);
+    }
+
+    /**
+     * WAITING 전환된 상영 일정의 재생 정보 미리 적재 (조회 1회)
+     */
+    public void preload(Collection<Long> scheduleIds) {
+        for (ScheduleItem scheduleItem : scheduleItemRepository.findAllWithVideoByIdIn(scheduleIds)) {
+            cache(scheduleItem, resolve(scheduleItem));
+        }
+    }
+
+    /**
+     * 상영 종료(CLOSED)된 상영관의 재생 정보 정리
+     */
+    public void evict(Collection<Long> scheduleIds) {
+        scheduleIds.forEach(playbackInfos::remove);
+    }
+
+    /**
+     * 콘텐츠 영상 자산 변경 (HLS 연결, 원본 교체 등) 시 해당 콘텐츠 일정의 캐시 제거
+     * 트랜잭션 중이면 커밋 전에 이전 자산으로 다시 캐시될 수 있으므로 커밋 후 한 번 더 제거
+     */
+    public void evictContent(long contentId) {
+        nowAndAfterCommit(() -> playbackInfos.values().removeIf(cached -> cached.contentId() == contentId));
+    }
+
+    /**
+     * 캐시 미스 (재시작 직후 등): 조회 후 상영 중인 일정만 캐시
+     */
+    private PlaybackInfoResponse load(long scheduleId) {
+        ScheduleItem scheduleItem = scheduleItemRepository.findAllWithVideoByIdIn(List.of(scheduleId)).stream()
+                .findFirst()
                 .orElseThrow(() -> new IllegalArgumentException("스케줄을 찾을 수 없습니다."));
+        PlaybackInfoResponse info = resolve(scheduleItem);
+        if (scheduleItem.getStatus() != ScheduleStatus.CLOSED) {
+            cache(scheduleItem, info);
+        }
+        return info;
+    }
 
+    /**
+     * HLS 마스터로 만든 재생 정보만 캐시
+     */
+    private void cache(ScheduleItem scheduleItem, PlaybackInfoResponse info) {
         Content content = scheduleItem.getContent();
-        if (content == null) {
-            return null;
+        MediaAsset hls = content.getVideoHlsMaster();
+        if (info == null || hls == null || !hls.getAssetId().equals(info.getAssetId())) {
+            return;
         }
+        playbackInfos.put(scheduleItem.getScheduleItemId(), new CachedPlayback(content.getContentId(), info));
+    }
+
+    private PlaybackInfoResponse resolve(ScheduleItem scheduleItem) {
+        Content content = scheduleItem.getContent();
 
         // HLS 우선, 없으면 원본 영상
         MediaAsset asset = content.getVideoHlsMaster();
@@ -51,7 +125,6 @@ public class TheaterPlaybackService {
         }
 
         String url = cloudFrontUrlService.toPublicUrl(asset.getObjectKey());
-
         return PlaybackInfoResponse.from(asset, url);
     }
 }
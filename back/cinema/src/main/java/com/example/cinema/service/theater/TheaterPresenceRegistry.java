@@ -0,0 +1,287 @@
+package com.example.cinema.service.theater;
+
+import com.example.cinema.config.webSocket.relay.TopicRelayInterceptor;
+import com.example.cinema.repository.schedule.ScheduleItemRepository;
+import com.example.cinema.repository.watchHistory.WatchHistoryRepository;
+import com.example.cinema.service.cluster.JobLeaseService;
+import com.example.cinema.type.ScheduleStatus;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 상영관 접속자(Presence) 레지스트리
+ * - scheduleId 별 접속 중인 userId 를 메모리에 유지하여 시청자 수를 O(1)로 조회
+ * - REST enter/leave 와 STOMP SUBSCRIBE/DISCONNECT 이벤트로 갱신
+ * - 주기적으로 DB(watch_histories.left_at IS NULL)와 대조하여 보정
+ * - 변경된 상영관의 시청자 수는 /topic/theaters/{id}/viewers 로 푸시
+ *   노드별 레지스트리는 자기 소켓만 알고 있으므로 리더 노드만 푸시하고 다른 노드로 중계
+ *   다른 노드는 변경된 상영관을 리더에게 알리고(재집계 요청), 리더는 DB 활성 기록과 대조한 뒤 푸시
+ *   (다른 노드의 소켓 세션만 있고 활성 기록이 없는 사용자는 리더 집계에 포함되지 않음)
+ * - 상영관은 WAITING / PLAYING 일정에 대해서만 생성 (없는 일정 / 종료된 일정으로 맵이 늘어나지 않도록)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TheaterPresenceRegistry {
+
+    private static final Set<ScheduleStatus> OPEN_STATUSES = Set.of(ScheduleStatus.WAITING, ScheduleStatus.PLAYING);
+    private static final String RECOUNT_SUFFIX = "/viewers/recount";
+
+    private final WatchHistoryRepository watchHistoryRepository;
+    private final ScheduleItemRepository scheduleItemRepository;
+    private final TheaterStateBroadcaster broadcaster;
+    private final JobLeaseService jobLeaseService;
+    private final TopicRelayInterceptor topicRelay;
+
+    /**
+     * scheduleId -> (userId -> 해당 상영관을 구독 중인 STOMP 세션 수)
+     * REST 입장만 하고 소켓이 없는 사용자는 세션 수 0으로 유지됩니다.
+     * ConcurrentHashMap.size()는 내부 스트라이프 카운터 합산이므로 락 없이 O(1)에 가깝습니다.
+     */
+    private final ConcurrentHashMap<Long, ConcurrentHashMap<Long, AtomicInteger>> rooms = new ConcurrentHashMap<>();
+
+    /** STOMP sessionId -> 세션 사용자 및 구독 중인 상영관 */
+    private final ConcurrentHashMap<String, SessionPresence> sessions = new ConcurrentHashMap<>();
+
+    /** 시청자 수가 바뀌어 푸시가 필요한 상영관 */
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+    /** 다른 노드에서 시청자 수가 바뀌어 리더가 DB 와 다시 대조할 상영관 */
+    private final Set<Long> recount = ConcurrentHashMap.newKeySet();
+
+    private record SessionPresence(long userId, Set<Long> scheduleIds) {
+    }
+
+    /** 세션 종료로 사용자의 마지막 소켓이 닫힌 상영관 목록 */
+    public record Departure(long userId, List<Long> scheduleIds) {
+    }
+
+    @PostConstruct
+    void subscribeRecount() {
+        topicRelay.handle(RECOUNT_SUFFIX, frame ->
+                recount.add(Long.parseLong(new String(frame.payload(), StandardCharsets.UTF_8))));
+    }
+
+    /**
+     * 현재 시청자 수 (메모리 조회, 상영관을 만들지 않음)
+     */
+    public long count(long scheduleId) {
+        ConcurrentHashMap<Long, AtomicInteger> room = rooms.get(scheduleId);
+        return room == null ? 0L : room.size();
+    }
+
+    /**
+     * 상영관에 이미 있는 사용자인지 (메모리 조회, 상영관을 만들지 않음)
+     */
+    public boolean contains(long scheduleId, long userId) {
+        ConcurrentHashMap<Long, AtomicInteger> room = rooms.get(scheduleId);
+        return room != null && room.containsKey(userId);
+    }
+
+    /**
+     * 상영관 준비 (WAITING / PLAYING 일정만 DB 활성 기록으로 초기화)
+     *
+     * @return 상영관이 있으면 true (없는 일정이거나 상영 중이 아니면 false)
+     */
+    public boolean open(long scheduleId) {
+        return room(scheduleId) != null;
+    }
+
+    /**
+     * 해당 상영관을 구독 중인 소켓 세션이 남아 있는지 (메모리 조회, 초기화하지 않음)
+     */
+    public boolean hasSession(long scheduleId, long userId) {
+        ConcurrentHashMap<Long, AtomicInteger> room = rooms.get(scheduleId);
+        AtomicInteger refs = room == null ? null : room.get(userId);
+        return refs != null && refs.get() > 0;
+    }
+
+    /**
+     * REST 입장 처리 후 호출
+     */
+    public void enter(long scheduleId, long userId) {
+        ConcurrentHashMap<Long, AtomicInteger> room = room(scheduleId);
+        if (room != null && room.putIfAbsent(userId, new AtomicInteger()) == null) {
+            dirty.add(scheduleId);
+        }
+    }
+
+    /**
+     * REST 퇴장 처리 후 호출 (남아 있는 소켓 세션과 무관하게 퇴장)
+     */
+    public void leave(long scheduleId, long userId) {
+        ConcurrentHashMap<Long, AtomicInteger> room = rooms.get(scheduleId);
+        if (room != null && room.remove(userId) != null) {
+            dirty.add(scheduleId);
+        }
+    }
+
+    /**
+     * STOMP 세션이 상영관 목적지를 구독했을 때 호출
+     * 같은 세션이 한 상영관의 여러 목적지(state, chat, viewers)를 구독해도 1회만 반영합니다.
+     * 상영 중이 아닌 상영관 구독은 반영하지 않습니다.
+     */
+    public void sessionJoined(String sessionId, long scheduleId, long userId) {
+        SessionPresence session = sessions.computeIfAbsent(sessionId,
+                id -> new SessionPresence(userId, ConcurrentHashMap.newKeySet()));
+        if (session.scheduleIds().contains(scheduleId)) {
+            return;
+        }
+        ConcurrentHashMap<Long, AtomicInteger> room = room(scheduleId);
+        if (room == null || !session.scheduleIds().add(scheduleId)) {
+            return;
+        }
+        // 증가를 compute 안에서 해야 sessionClosed 의 제거(computeIfPresent)와 엇갈리지 않음
+        room.compute(userId, (id, refs) -> {
+            if (refs == null) {
+                dirty.add(scheduleId);
+                refs = new AtomicInteger();
+            }
+            refs.incrementAndGet();
+            return refs;
+        });
+    }
+
+    /**
+     * STOMP 세션 종료 시 호출
+     * 해당 사용자의 마지막 세션이었다면 상영관에서 제거합니다.
+     *
+     * @return 마지막 세션이 닫혀 사용자가 빠져나간 상영관 (없으면 null)
+     */
+    public Departure sessionClosed(String sessionId) {
+        SessionPresence session = sessions.remove(sessionId);
+        if (session == null) {
+            return null;
+        }
+        List<Long> departed = new ArrayList<>();
+        for (Long scheduleId : session.scheduleIds()) {
+            ConcurrentHashMap<Long, AtomicInteger> room = rooms.get(scheduleId);
+            if (room == null) {
+                continue;
+            }
+            room.computeIfPresent(session.userId(), (id, refs) -> {
+                if (refs.decrementAndGet() > 0) {
+                    return refs;
+                }
+                dirty.add(scheduleId);
+                departed.add(scheduleId);
+                return null;
+            });
+        }
+        return departed.isEmpty() ? null : new Departure(session.userId(), departed);
+    }
+
+    /**
+     * 상영 종료(CLOSED)된 상영관 정리
+     */
+    public void evict(Collection<Long> scheduleIds) {
+        for (Long scheduleId : scheduleIds) {
+            rooms.remove(scheduleId);
+            dirty.remove(scheduleId);
+            recount.remove(scheduleId);
+        }
+    }
+
+    /**
+     * 변경된 상영관의 시청자 수 푸시 (짧은 주기로 모아서 전송)
+     * - 리더: 다른 노드가 알린 상영관을 DB 와 대조한 뒤 변경된 상영관 푸시 (다른 노드로 중계)
+     * - 그 외 노드: 변경된 상영관을 리더에게 알리기만 함
+     */
+    @Scheduled(fixedDelayString = "${theater.presence.publish-ms:1000}")
+    public void publishDirty() {
+        if (!jobLeaseService.isLeader(JobLeaseService.SCHEDULE_STATUS)) {
+            recount.clear();
+            for (Long scheduleId : List.copyOf(dirty)) {
+                dirty.remove(scheduleId);
+                topicRelay.publish("/topic/theaters/" + scheduleId + RECOUNT_SUFFIX,
+                        Long.toString(scheduleId).getBytes(StandardCharsets.UTF_8));
+            }
+            return;
+        }
+        for (Long scheduleId : List.copyOf(recount)) {
+            recount.remove(scheduleId);
+            ConcurrentHashMap<Long, AtomicInteger> room = rooms.get(scheduleId);
+            if (room == null) {
+                // 처음 보는 상영관은 DB 활성 기록으로 초기화
+                if (room(scheduleId) != null) {
+                    dirty.add(scheduleId);
+                }
+            } else {
+                reconcileRoom(scheduleId, room);
+            }
+        }
+        for (Long scheduleId : List.copyOf(dirty)) {
+            dirty.remove(scheduleId);
+            ConcurrentHashMap<Long, AtomicInteger> room = rooms.get(scheduleId);
+            broadcaster.broadcastViewerCount(scheduleId, room == null ? 0L : room.size());
+        }
+    }
+
+    /**
+     * DB 와 대조하여 메모리 상태 보정
+     * - DB 에는 활성 기록이 있지만 메모리에 없는 사용자: 추가 (재시작, 다른 노드 입장 등)
+     * - 메모리에만 있고 소켓 세션도 없는 사용자: 제거
+     * - 상영 중이 아닌 상영관 (CLOSED 전이와 경합해 다시 만들어진 경우 등): 제거
+     */
+    @Scheduled(fixedDelayString = "${theater.presence.reconcile-ms:60000}")
+    public void reconcile() {
+        if (rooms.isEmpty()) {
+            return;
+        }
+        List<Long> scheduleIds = List.copyOf(rooms.keySet());
+        Set<Long> open = new HashSet<>(scheduleItemRepository.findIdsByIdInAndStatusIn(scheduleIds, OPEN_STATUSES));
+        evict(scheduleIds.stream().filter(id -> !open.contains(id)).toList());
+        for (Long scheduleId : open) {
+            ConcurrentHashMap<Long, AtomicInteger> room = rooms.get(scheduleId);
+            if (room != null) {
+                reconcileRoom(scheduleId, room);
+            }
+        }
+    }
+
+    private void reconcileRoom(long scheduleId, ConcurrentHashMap<Long, AtomicInteger> room) {
+        Set<Long> active = new HashSet<>(watchHistoryRepository.findActiveUserIds(scheduleId));
+        int before = room.size();
+
+        active.forEach(userId -> room.putIfAbsent(userId, new AtomicInteger()));
+        room.entrySet().removeIf(e -> e.getValue().get() <= 0 && !active.contains(e.getKey()));
+
+        if (room.isEmpty()) {
+            rooms.remove(scheduleId, room);
+        }
+        if (room.size() != before) {
+            log.debug("시청자 수 보정: scheduleId={}, memory={}, db={}", scheduleId, before, room.size());
+            dirty.add(scheduleId);
+        }
+    }
+
+    /**
+     * 상영관 조회 (최초 접근 시 WAITING / PLAYING 일정이면 DB 활성 기록으로 초기화, 아니면 null)
+     */
+    private ConcurrentHashMap<Long, AtomicInteger> room(long scheduleId) {
+        ConcurrentHashMap<Long, AtomicInteger> room = rooms.get(scheduleId);
+        if (room != null) {
+            return room;
+        }
+        if (!scheduleItemRepository.existsByScheduleItemIdAndStatusIn(scheduleId, OPEN_STATUSES)) {
+            return null;
+        }
+        ConcurrentHashMap<Long, AtomicInteger> seeded = new ConcurrentHashMap<>();
+        watchHistoryRepository.findActiveUserIds(scheduleId)
+                .forEach(userId -> seeded.putIfAbsent(userId, new AtomicInteger()));
+        ConcurrentHashMap<Long, AtomicInteger> existing = rooms.putIfAbsent(scheduleId, seeded);
+        return existing != null ? existing : seeded;
+    }
+}
@@ -1,18 +1,127 @@
 package com.example.cinema.service.theater;
 
+import com.example.cinema.config.webSocket.relay.TopicRelayInterceptor;
+import com.example.cinema.dto.theater.PlaybackStateResponse;
+import com.example.cinema.entity.ScheduleItem;
+import com.example.cinema.type.ScheduleStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongPredicate;
+
+import static com.example.cinema.util.TransactionUtil.afterCommit;
+
+/**
+ * 상영관 상태 브로드캐스트
+ * - 상태를 tick 당 1회만 JSON(byte[])으로 직렬화하고, 같은 버퍼를
+ *   /topic 브로드캐스트와 구독 직후 응답(@SubscribeMapping)에 재사용
+ * - 상태 전이 브로드캐스트는 전이한 쪽에서 IN 조회한 일정으로 만들고 커밋 후 한 번에 전송
+ * - 노드 간 중계: 상태 전이와 시청자 수(리더만 전송)는 다른 노드로 중계,
+ *   heartbeat 는 노드마다 자기 티커가 보내므로 로컬에만 전송
+ */
 @Service
 @RequiredArgsConstructor
 public class TheaterStateBroadcaster {
     private final TheaterSyncService theaterSyncService;
     private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+
+    /** scheduleId -> 최근 직렬화된 상태 */
+    private final ConcurrentHashMap<Long, StateSnapshot> snapshots = new ConcurrentHashMap<>();
 
+    @Value("${theater.state.snapshot-ttl-ms:1000}")
+    private long snapshotTtlMs;
+
+    private record StateSnapshot(byte[] json, long serverTimeMs) {
+    }
+
+    /**
+     * 상태 전이된 상영관 일괄 브로드캐스트 (일정별 DB 재조회 없음)
+     * 트랜잭션 중이면 커밋 후 전송 → 커밋 전 상태가 클라이언트에 보이지 않고, 롤백 시 전송하지 않음
+     */
+    public void broadcastStates(Collection<ScheduleItem> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+        List<ScheduleItem> batch = List.copyOf(items);
+        afterCommit(() -> {
+            long serverTimeMs = System.currentTimeMillis();
+            for (ScheduleItem item : batch) {
+                long scheduleId = item.getScheduleItemId();
+                byte[] json = refresh(scheduleId, PlaybackStateResponse.from(item, serverTimeMs));
+                messagingTemplate.convertAndSend("/topic/theaters/" + scheduleId + "/state", json,
+                        TopicRelayInterceptor.relayHeaders());
+            }
+        });
+    }
+
+    /**
+     * 상영 중 heartbeat (DB 조회 없이 시작 시각으로 위치 계산)
+     * 같은 버퍼를 스냅샷으로도 저장하여 직후 구독 응답에 재사용
+     * 스냅샷 저장 시점에 아직 상영 중인지 다시 확인 → 그 사이 ENDING/CLOSED 로 전이되어 저장된
+     * 상태 스냅샷을 PLAYING 으로 덮어쓰지 않음 (전이는 티커에서 제외한 뒤 커밋 후 스냅샷을 저장)
+     */
+    public void broadcastHeartbeat(long scheduleId, long startAtMs, LongPredicate stillPlaying) {
+        PlaybackStateResponse state = PlaybackStateResponse.playing(startAtMs, System.currentTimeMillis());
+        byte[] json = serialize(state);
+        StateSnapshot heartbeat = new StateSnapshot(json, state.getServerTimeMs());
+        StateSnapshot stored = snapshots.compute(scheduleId,
+                (id, prev) -> stillPlaying.test(id) ? heartbeat : prev);
+        if (stored != heartbeat) {
+            return;
+        }
+        messagingTemplate.convertAndSend("/topic/theaters/" + scheduleId + "/state", json);
+    }
+
+    /**
+     * 시청자 수 (리더 노드만 호출, 다른 노드로 중계)
+     */
+    public void broadcastViewerCount(long scheduleId, long count) {
+        messagingTemplate.convertAndSend("/topic/theaters/" + scheduleId + "/viewers", count,
+                TopicRelayInterceptor.relayHeaders());
+    }
+
+    /**
+     * 구독 직후 응답용 상태 (snapshot-ttl 이내에는 같은 버퍼 재사용)
+     * positionMs 와 serverTimeMs 가 함께 직렬화되어 있으므로 클라이언트는 오차 없이 보정 가능
+     */
+    public byte[] snapshot(long scheduleId) {
+        StateSnapshot snapshot = snapshots.get(scheduleId);
+        if (snapshot != null && System.currentTimeMillis() - snapshot.serverTimeMs() < snapshotTtlMs) {
+            return snapshot.json();
+        }
+        return refresh(scheduleId, theaterSyncService.getState(scheduleId));
+    }
+
+    /**
+     * 상영 종료(CLOSED)된 상영관의 스냅샷 정리
+     */
+    public void evict(Collection<Long> scheduleIds) {
+        scheduleIds.forEach(snapshots::remove);
+    }
+
+    private byte[] refresh(long scheduleId, PlaybackStateResponse state) {
+        byte[] json = serialize(state);
+        if (state.getStatus() == ScheduleStatus.CLOSED) {
+            snapshots.remove(scheduleId);
+        } else {
+            snapshots.put(scheduleId, new StateSnapshot(json, state.getServerTimeMs()));
+        }
+        return json;
+    }
 
-    public void broadcastState(long scheduleId) {
-        var state = theaterSyncService.getState(scheduleId);
-        messagingTemplate.convertAndSend("/topic/theaters/" + scheduleId + "/state", state);
+    private byte[] serialize(PlaybackStateResponse state) {
+        try {
+            return objectMapper.writeValueAsBytes(state);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("상영 상태 직렬화에 실패했습니다.", e);
+        }
     }
 }
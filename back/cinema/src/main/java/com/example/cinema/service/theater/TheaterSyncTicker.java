@@ -0,0 +1,117 @@
+package com.example.cinema.service.theater;
+
+import com.example.cinema.entity.ScheduleItem;
+import com.example.cinema.repository.schedule.ScheduleItemRepository;
+import com.example.cinema.type.ScheduleStatus;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상영 중(PLAYING) 상영관 재생 위치 동기화 티커
+ * - 상영 중인 일정의 시작 시각을 메모리에 유지하고, heartbeat-ms 마다 위치/서버시간을 푸시
+ * - tick 당 DB 조회 없음 (시작 시각은 상태 전이 시점과 기동 시 1회만 적재)
+ * - heartbeat-ms 를 slots 개 구간으로 나누고 상영관마다 고정된 구간에서 전송하여
+ *   전송이 한 순간에 몰리지 않도록 분산 (상영관별 전송 간격은 heartbeat-ms 로 일정)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TheaterSyncTicker {
+
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+
+    private final ScheduleItemRepository scheduleItemRepository;
+    private final TheaterStateBroadcaster broadcaster;
+
+    /** scheduleId -> 상영 시작 시각 (epoch ms) */
+    private final ConcurrentHashMap<Long, Long> playing = new ConcurrentHashMap<>();
+
+    @Value("${theater.sync.slots:10}")
+    private int slots;
+
+    private long tickCount;
+
+    /**
+     * slots 는 tick 주기(heartbeat-ms / slots)의 분모이므로 1 이상이어야 함
+     */
+    @PostConstruct
+    void validate() {
+        if (slots < 1) {
+            throw new IllegalStateException("theater.sync.slots 는 1 이상이어야 합니다: " + slots);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        track(scheduleItemRepository.findAllByStatus(ScheduleStatus.PLAYING));
+        log.info("Theater sync ticker loaded: playing={}", playing.size());
+    }
+
+    /**
+     * WAITING -> PLAYING 전이된 일정 등록
+     */
+    public void track(Collection<ScheduleItem> items) {
+        for (ScheduleItem item : items) {
+            playing.put(item.getScheduleItemId(), item.getStartAt().atZone(ZONE_ID).toInstant().toEpochMilli());
+        }
+    }
+
+    /**
+     * PLAYING 을 벗어난(ENDING/CLOSED) 일정 제거
+     */
+    public void untrack(Collection<Long> scheduleIds) {
+        scheduleIds.forEach(playing::remove);
+    }
+
+    /**
+     * 등록된 일정 ID (리더가 아닌 노드의 상태 점검용)
+     */
+    public List<Long> trackedIds() {
+        return List.copyOf(playing.keySet());
+    }
+
+    public int size() {
+        return playing.size();
+    }
+
+    /**
+     * heartbeat-ms / slots 마다 실행, 이번 구간에 해당하는 상영관에만 전송
+     */
+    @Scheduled(fixedRateString = "#{${theater.sync.heartbeat-ms:5000} / ${theater.sync.slots:10}}")
+    public void tick() {
+        if (playing.isEmpty()) {
+            return;
+        }
+        int slot = (int) (tickCount++ % slots);
+        for (var entry : playing.entrySet()) {
+            long scheduleId = entry.getKey();
+            if (slotOf(scheduleId, slots) != slot) {
+                continue;
+            }
+            try {
+                broadcaster.broadcastHeartbeat(scheduleId, entry.getValue(), playing::containsKey);
+            } catch (RuntimeException e) {
+                log.warn("Theater heartbeat failed: scheduleId={}, err={}", scheduleId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * scheduleId 를 섞어서 구간 배정 (연속된 id 도 고르게 분산)
+     */
+    static int slotOf(long scheduleId, int slots) {
+        long h = scheduleId * 0x9E3779B97F4A7C15L;
+        return (int) Math.floorMod(h ^ (h >>> 32), (long) slots);
+    }
+}
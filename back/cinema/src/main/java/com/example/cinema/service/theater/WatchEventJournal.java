@@ -0,0 +1,140 @@
+package com.example.cinema.service.theater;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 입장/퇴장 이벤트 로컬 append-only 저널
+ * - 고정 길이 레코드 [type(1) | userId(8) | scheduleId(8) | atMs(8)]
+ * - DB 반영이 끝난 위치는 별도 checkpoint 파일(.offset)에 기록
+ * - 반영되지 않은 이벤트가 없으면 파일을 비워 크기가 계속 커지지 않도록 함
+ * - 마지막 레코드가 잘린 경우(프로세스 중단) 열 때 잘라내어 이후 레코드 경계를 유지
+ */
+class WatchEventJournal implements AutoCloseable {
+
+    static final int RECORD_BYTES = 1 + Long.BYTES * 3;
+
+    enum Type { ENTER, LEAVE }
+
+    record Event(Type type, long userId, long scheduleId, long atMs) {
+    }
+
+    /** 저널에 기록된 이벤트 + 레코드 끝 위치 (checkpoint 용) */
+    record Entry(Event event, long endOffset) {
+    }
+
+    private final FileChannel channel;
+    private final Path offsetPath;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    WatchEventJournal(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        this.channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.offsetPath = path.resolveSibling(path.getFileName() + ".offset");
+        long size = channel.size();
+        if (size % RECORD_BYTES != 0) {
+            channel.truncate(size - size % RECORD_BYTES);
+        }
+    }
+
+    /**
+     * 레코드를 파일 끝에 추가 (OS 페이지 캐시까지 기록, fsync 는 sync() 에서 묶어서 수행)
+     */
+    Entry append(Event event) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_BYTES);
+        buffer.put((byte) event.type().ordinal())
+                .putLong(event.userId())
+                .putLong(event.scheduleId())
+                .putLong(event.atMs())
+                .flip();
+        lock.lock();
+        try {
+            long position = channel.size();
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            return new Entry(event, position);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void sync() throws IOException {
+        channel.force(false);
+    }
+
+    /**
+     * checkpoint 이후 이벤트 (재시작 시 재생용)
+     */
+    List<Entry> readUncommitted() throws IOException {
+        long size = channel.size();
+        long position = readCheckpoint();
+        if (position > size) {
+            // 파일을 비운 직후 checkpoint 를 기록하지 못하고 중단된 경우
+            position = 0;
+            writeCheckpoint(0);
+        }
+        List<Entry> entries = new ArrayList<>();
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_BYTES);
+        while (position + RECORD_BYTES <= size) {
+            buffer.clear();
+            while (buffer.hasRemaining()) {
+                channel.read(buffer, position + buffer.position());
+            }
+            buffer.flip();
+            Type type = Type.values()[buffer.get()];
+            position += RECORD_BYTES;
+            entries.add(new Entry(new Event(type, buffer.getLong(), buffer.getLong(), buffer.getLong()), position));
+        }
+        return entries;
+    }
+
+    /**
+     * endOffset 까지 DB 반영 완료 기록
+     * 그 뒤로 추가된 레코드가 없으면 파일을 비움
+     */
+    void commit(long endOffset) throws IOException {
+        lock.lock();
+        try {
+            if (channel.size() == endOffset) {
+                channel.truncate(0);
+                channel.force(false);
+                writeCheckpoint(0);
+            } else {
+                writeCheckpoint(endOffset);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long readCheckpoint() throws IOException {
+        if (!Files.exists(offsetPath)) {
+            return 0;
+        }
+        byte[] bytes = Files.readAllBytes(offsetPath);
+        return bytes.length == Long.BYTES ? ByteBuffer.wrap(bytes).getLong() : 0;
+    }
+
+    private void writeCheckpoint(long offset) throws IOException {
+        Path tmp = offsetPath.resolveSibling(offsetPath.getFileName() + ".tmp");
+        Files.write(tmp, ByteBuffer.allocate(Long.BYTES).putLong(offset).array());
+        Files.move(tmp, offsetPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,238 @@
+package com.example.cinema.service.theater;
+
+import com.example.cinema.entity.WatchHistory;
+import com.example.cinema.service.theater.WatchEventJournal.Entry;
+import com.example.cinema.service.theater.WatchEventJournal.Event;
+import com.example.cinema.service.theater.WatchEventJournal.Type;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 시청 기록 write-behind (theater.watch-journal.enabled=true)
+ * - 입장/퇴장은 로컬 저널에 기록하고 메모리 상태로 바로 응답
+ * - 백그라운드 writer 가 flush-ms 마다 모아서 JDBC batch 로 watch_histories / contents 에 반영
+ * - 재시작 시 checkpoint 이후 저널을 다시 반영 (모든 SQL 은 재적용해도 결과가 같음)
+ * - fsync 는 flush 주기마다 1회 → 프로세스 중단에는 안전, 전원 장애 시 최대 flush-ms 구간 유실 가능
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WatchHistoryWriteBehind {
+
+    private static final String UPSERT_ENTER =
+            "INSERT INTO watch_histories " +
+            "(user_id, schedule_item_id, enter_at, left_at, view_counted, created_at, updated_at) " +
+            "VALUES (?, ?, ?, NULL, FALSE, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE left_at = NULL, enter_at = ?, updated_at = ?";
+
+    /** 조회수 기준 시간 이상 시청 + 아직 미반영인 기록만 퇴장 + 카운트 처리 */
+    private static final String LEAVE_COUNTED =
+            "UPDATE watch_histories SET left_at = ?, view_counted = TRUE, updated_at = ? " +
+            "WHERE user_id = ? AND schedule_item_id = ? AND left_at IS NULL " +
+            "AND view_counted = FALSE AND enter_at <= ?";
+
+    private static final String LEAVE =
+            "UPDATE watch_histories SET left_at = ?, updated_at = ? " +
+            "WHERE user_id = ? AND schedule_item_id = ? AND left_at IS NULL";
+
+    private static final String INCREMENT_VIEW =
+            "UPDATE contents SET total_view = total_view + ?, month_view = month_view + ? " +
+            "WHERE content_id = (SELECT content_id FROM schedule_items WHERE schedule_item_id = ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${theater.watch-journal.enabled:false}")
+    private boolean enabled;
+
+    @Value("${theater.watch-journal.path:./data/watch-journal.log}")
+    private Path path;
+
+    @Value("${theater.watch-journal.batch-size:5000}")
+    private int batchSize;
+
+    private WatchEventJournal journal;
+
+    /** 저널에 기록되었지만 아직 DB 에 반영되지 않은 이벤트 */
+    private final ConcurrentLinkedQueue<Entry> queue = new ConcurrentLinkedQueue<>();
+
+    /** 반영 실패 시 다음 flush 에서 재시도할 이벤트 (writer 스레드 전용) */
+    private final List<Entry> retry = new ArrayList<>();
+
+    /** (userId, scheduleId) -> 입장 정보 (응답 계산용 메모리 상태) */
+    private final ConcurrentHashMap<SessionKey, Session> sessions = new ConcurrentHashMap<>();
+
+    private record SessionKey(long userId, long scheduleId) {
+    }
+
+    public record Session(LocalDateTime enteredAt, String contentTitle) {
+    }
+
+    /**
+     * 저널 열기 + 미반영 이벤트 재생 준비 (write-behind 를 끈 뒤에도 남은 저널은 반영)
+     */
+    @PostConstruct
+    void open() throws IOException {
+        if (!enabled && !Files.exists(path)) {
+            return;
+        }
+        journal = new WatchEventJournal(path);
+        List<Entry> pending = journal.readUncommitted();
+        queue.addAll(pending);
+        if (!pending.isEmpty()) {
+            log.info("시청 기록 저널 재생: events={}, path={}", pending.size(), path);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Session enter(long userId, long scheduleId, String contentTitle) {
+        // 저널 레코드(ms) 와 응답 시각을 일치시킴
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        append(new Event(Type.ENTER, userId, scheduleId, toEpochMs(now)));
+        Session session = new Session(now, contentTitle);
+        sessions.put(new SessionKey(userId, scheduleId), session);
+        return session;
+    }
+
+    /**
+     * @return 메모리에 남아 있던 입장 정보 (재시작 등으로 모르면 null)
+     */
+    public Session leave(long userId, long scheduleId, LocalDateTime leftAt) {
+        append(new Event(Type.LEAVE, userId, scheduleId, toEpochMs(leftAt)));
+        return sessions.remove(new SessionKey(userId, scheduleId));
+    }
+
+    /**
+     * 상영 종료(CLOSED)된 상영관에 남은 입장 정보를 모두 퇴장 처리 (저널 기록)
+     */
+    public void leaveAll(Collection<Long> scheduleIds, LocalDateTime leftAt) {
+        for (SessionKey key : List.copyOf(sessions.keySet())) {
+            if (scheduleIds.contains(key.scheduleId())) {
+                leave(key.userId(), key.scheduleId(), leftAt);
+            }
+        }
+    }
+
+    private void append(Event event) {
+        try {
+            queue.add(journal.append(event));
+        } catch (IOException e) {
+            throw new UncheckedIOException("시청 기록 저널 기록에 실패했습니다.", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${theater.watch-journal.flush-ms:1000}")
+    public synchronized void flush() {
+        if (journal == null) {
+            return;
+        }
+        Entry polled;
+        while (retry.size() < batchSize && (polled = queue.poll()) != null) {
+            retry.add(polled);
+        }
+        if (retry.isEmpty()) {
+            return;
+        }
+        try {
+            journal.sync();
+            transactionTemplate.executeWithoutResult(status -> apply(retry));
+            journal.commit(retry.get(retry.size() - 1).endOffset());
+            retry.clear();
+        } catch (Exception e) {
+            log.warn("시청 기록 반영 실패 (다음 주기에 재시도): events={}, err={}", retry.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 같은 (사용자, 스케줄) 이벤트 순서를 지키기 위해 키별 k 번째 이벤트끼리 묶어 라운드 단위로 반영
+     * (보통 1 라운드, 짧은 시간 안에 재입장한 경우만 라운드가 늘어남)
+     */
+    private void apply(List<Entry> entries) {
+        Map<SessionKey, Integer> seen = new HashMap<>();
+        List<List<Event>> rounds = new ArrayList<>();
+        for (Entry entry : entries) {
+            Event event = entry.event();
+            int round = seen.merge(new SessionKey(event.userId(), event.scheduleId()), 1, Integer::sum) - 1;
+            if (round == rounds.size()) {
+                rounds.add(new ArrayList<>());
+            }
+            rounds.get(round).add(event);
+        }
+        for (List<Event> round : rounds) {
+            applyRound(round);
+        }
+    }
+
+    private void applyRound(List<Event> events) {
+        List<Object[]> enters = new ArrayList<>();
+        List<Object[]> countedLeaves = new ArrayList<>();
+        List<Object[]> leaves = new ArrayList<>();
+        List<Long> leaveScheduleIds = new ArrayList<>();
+        for (Event event : events) {
+            Timestamp at = new Timestamp(event.atMs());
+            if (event.type() == Type.ENTER) {
+                enters.add(new Object[]{event.userId(), event.scheduleId(), at, at, at, at, at});
+            } else {
+                Timestamp countedBefore = new Timestamp(event.atMs() - WatchHistory.VIEW_COUNT_MIN_SECONDS * 1000L);
+                countedLeaves.add(new Object[]{at, at, event.userId(), event.scheduleId(), countedBefore});
+                leaves.add(new Object[]{at, at, event.userId(), event.scheduleId()});
+                leaveScheduleIds.add(event.scheduleId());
+            }
+        }
+        if (!enters.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_ENTER, enters);
+        }
+        if (leaves.isEmpty()) {
+            return;
+        }
+        int[] counted = jdbcTemplate.batchUpdate(LEAVE_COUNTED, countedLeaves);
+        jdbcTemplate.batchUpdate(LEAVE, leaves);
+
+        Map<Long, Long> viewsBySchedule = new HashMap<>();
+        for (int i = 0; i < counted.length; i++) {
+            if (counted[i] > 0) {
+                viewsBySchedule.merge(leaveScheduleIds.get(i), 1L, Long::sum);
+            }
+        }
+        if (!viewsBySchedule.isEmpty()) {
+            jdbcTemplate.batchUpdate(INCREMENT_VIEW, viewsBySchedule.entrySet().stream()
+                    .map(e -> new Object[]{e.getValue(), e.getValue(), e.getKey()})
+                    .toList());
+        }
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        if (journal == null) {
+            return;
+        }
+        flush();
+        journal.close();
+    }
+
+    private static long toEpochMs(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,248 @@
+package com.example.cinema.service.theater;
+
+import com.example.cinema.config.webSocket.relay.TopicRelayInterceptor;
+import com.example.cinema.entity.WatchHistory;
+import com.example.cinema.repository.schedule.ScheduleItemRepository;
+import com.example.cinema.repository.watchHistory.WatchHistoryRepository;
+import com.example.cinema.service.content.ContentViewCounter;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 퇴장 요청 없이 남은 시청 기록(left_at IS NULL) 정리
+ * - 소켓 종료(SessionDisconnectEvent)로 사용자의 마지막 세션이 닫힌 상영관을 모아 두었다가 flush-ms 마다 일괄 처리
+ *   (그 사이 다시 구독했거나 다시 입장한 사용자는 제외)
+ *   · 이 노드에 세션이 없더라도 다른 노드에 소켓이 남아 있을 수 있으므로, 다른 노드에 확인 요청을 중계하고
+ *     다음 주기까지 세션이 남아 있다는 응답(keep)이 없는 사용자만 퇴장 처리 (flush-ms 1회 지연)
+ *   · 남은 기록을 잠금 조회 1회 → 실제 (상영관, 사용자) 조합만 골라 watchId 기준 UPDATE 1회
+ * - 상영 종료(CLOSED) 시 해당 상영관들의 남은 기록을 콘텐츠별 집계 SELECT 1회 + UPDATE 1회로 정리
+ * - 퇴장과 같은 기준으로 조회수 집계 (VIEW_COUNT_MIN_SECONDS 이상 시청, 미집계 기록만)
+ *   · 집계 완료 표시는 퇴장 UPDATE 안의 CASE 로 함께 처리
+ * - write-behind 모드에서는 저널에 퇴장 이벤트를 남겨 writer 가 순서대로 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WatchSessionReaper {
+
+    private static final String CHECK_SUFFIX = "/sessions/check";
+    private static final String KEEP_SUFFIX = "/sessions/keep";
+
+    private final WatchHistoryRepository watchHistoryRepository;
+    private final ScheduleItemRepository scheduleItemRepository;
+    private final TheaterPresenceRegistry presenceRegistry;
+    private final WatchHistoryWriteBehind writeBehind;
+    private final ContentViewCounter contentViewCounter;
+    private final TransactionTemplate transactionTemplate;
+    private final TopicRelayInterceptor topicRelay;
+
+    /** scheduleId -> 소켓이 모두 끊긴 userId */
+    private final ConcurrentHashMap<Long, Set<Long>> pending = new ConcurrentHashMap<>();
+
+    /** scheduleId -> 다른 노드에 세션이 남아 있는지 확인 중인 userId (다음 주기에 남아 있으면 퇴장 처리) */
+    private final ConcurrentHashMap<Long, Set<Long>> confirming = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void subscribeRelay() {
+        // 다른 노드의 확인 요청: 이 노드에 세션이 남은 사용자를 응답
+        topicRelay.handle(CHECK_SUFFIX, frame -> {
+            long scheduleId = scheduleIdOf(frame.destination());
+            Set<Long> connected = userIdsOf(frame.payload()).stream()
+                    .filter(userId -> presenceRegistry.hasSession(scheduleId, userId))
+                    .collect(Collectors.toSet());
+            if (!connected.isEmpty()) {
+                topicRelay.publish("/topic/theaters/" + scheduleId + KEEP_SUFFIX, payloadOf(connected));
+            }
+        });
+        // 다른 노드의 응답: 세션이 남은 사용자는 퇴장 대상에서 제외
+        topicRelay.handle(KEEP_SUFFIX, frame -> {
+            Set<Long> connected = userIdsOf(frame.payload());
+            confirming.computeIfPresent(scheduleIdOf(frame.destination()), (id, users) -> {
+                users.removeAll(connected);
+                return users.isEmpty() ? null : users;
+            });
+        });
+    }
+
+    /**
+     * 소켓 종료 이벤트에서 호출 (DB 작업 없이 예약만)
+     */
+    public void disconnected(long userId, Collection<Long> scheduleIds) {
+        for (Long scheduleId : scheduleIds) {
+            // compute 로 추가해야 reap() 의 remove 와 겹쳐도 유실되지 않음
+            pending.compute(scheduleId, (id, users) -> {
+                Set<Long> target = users != null ? users : ConcurrentHashMap.newKeySet();
+                target.add(userId);
+                return target;
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${theater.reaper.flush-ms:1000}")
+    public void reap() {
+        if (pending.isEmpty() && confirming.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        // 지난 주기에 확인 요청한 사용자 중 어느 노드에도 세션이 남지 않은 사용자
+        Map<Long, List<Long>> orphans = new HashMap<>();
+        for (Long scheduleId : List.copyOf(confirming.keySet())) {
+            List<Long> userIds = withoutLocalSession(scheduleId, confirming.remove(scheduleId));
+            if (!userIds.isEmpty()) {
+                orphans.put(scheduleId, userIds);
+            }
+        }
+        for (Long scheduleId : List.copyOf(pending.keySet())) {
+            List<Long> userIds = withoutLocalSession(scheduleId, pending.remove(scheduleId));
+            if (userIds.isEmpty()) {
+                continue;
+            }
+            confirming.compute(scheduleId, (id, users) -> {
+                Set<Long> target = users != null ? users : ConcurrentHashMap.newKeySet();
+                target.addAll(userIds);
+                return target;
+            });
+            topicRelay.publish("/topic/theaters/" + scheduleId + CHECK_SUFFIX, payloadOf(userIds));
+        }
+        if (orphans.isEmpty()) {
+            return;
+        }
+
+        if (writeBehind.isEnabled()) {
+            orphans.forEach((scheduleId, userIds) ->
+                    userIds.forEach(userId -> writeBehind.leave(userId, scheduleId, now)));
+            return;
+        }
+
+        try {
+            int closed = transactionTemplate.execute(status -> closeOrphans(orphans, now));
+            if (closed > 0) {
+                log.info("소켓 종료 사용자 시청 기록 퇴장 처리: schedules={}, closed={}", orphans.size(), closed);
+            }
+        } catch (Exception e) {
+            // 다음 주기에 재시도 (이미 처리된 기록은 left_at 조건으로 제외됨)
+            orphans.forEach((scheduleId, userIds) -> userIds.forEach(userId ->
+                    disconnected(userId, List.of(scheduleId))));
+            log.warn("소켓 종료 사용자 시청 기록 퇴장 처리 실패 (다음 주기에 재시도): err={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 소켓 종료 사용자 기록 퇴장 처리 (트랜잭션 안에서 호출)
+     * - 상영관 × 사용자로 잠금 조회한 뒤 실제 조합만 골라 UPDATE
+     *   (다른 상영관에서 아직 시청 중인 사용자의 기록이 함께 닫히지 않도록)
+     * - 잠금으로 재입장(upsert)이 UPDATE 뒤로 밀리므로, 다시 입장한 기록이 닫히지 않고 조회 결과로 조회수 증가분을 계산
+     */
+    private int closeOrphans(Map<Long, List<Long>> orphans, LocalDateTime now) {
+        Set<Long> userIds = new HashSet<>();
+        orphans.values().forEach(userIds::addAll);
+        LocalDateTime countedBefore = now.minusSeconds(WatchHistory.VIEW_COUNT_MIN_SECONDS);
+
+        List<Long> watchIds = new ArrayList<>();
+        Map<Long, Integer> countedBySchedule = new HashMap<>();
+        for (Object[] row : watchHistoryRepository.findOpenForUpdate(orphans.keySet(), userIds)) {
+            Long scheduleId = (Long) row[1];
+            LocalDateTime enterAt = (LocalDateTime) row[3];
+            // 예약 이후 다시 입장한 기록은 제외
+            if (!orphans.get(scheduleId).contains((Long) row[2]) || enterAt.isAfter(now)) {
+                continue;
+            }
+            watchIds.add((Long) row[0]);
+            if (!(Boolean) row[4] && !enterAt.isAfter(countedBefore)) {
+                countedBySchedule.merge(scheduleId, 1, Integer::sum);
+            }
+        }
+        if (watchIds.isEmpty()) {
+            return 0;
+        }
+
+        int closed = watchHistoryRepository.closeByIds(watchIds, now, countedBefore);
+        if (!countedBySchedule.isEmpty()) {
+            Map<Long, Long> contentIds = contentIdsOf(countedBySchedule.keySet());
+            countedBySchedule.forEach((scheduleId, counted) -> countViews(contentIds.get(scheduleId), counted));
+        }
+        return closed;
+    }
+
+    /**
+     * 상영 종료(CLOSED)된 상영관의 남은 시청 기록 일괄 퇴장 처리 (호출한 쪽 트랜잭션에 참여)
+     */
+    public void closeSchedules(Collection<Long> scheduleIds) {
+        scheduleIds.forEach(pending::remove);
+        scheduleIds.forEach(confirming::remove);
+        LocalDateTime now = LocalDateTime.now();
+        if (writeBehind.isEnabled()) {
+            // 아직 반영되지 않은 입장 이벤트가 아래 UPDATE 이후 반영되어도 뒤따르는 퇴장 이벤트로 다시 닫힘
+            writeBehind.leaveAll(scheduleIds, now);
+        }
+
+        // 종료된 상영관에는 새 입장이 없으므로 집계 SELECT 와 UPDATE 사이에 바뀌는 기록은 퇴장 요청뿐
+        // (퇴장 요청은 잠금 없이 엔티티를 갱신하므로, 겹치면 분리 UPDATE 때와 마찬가지로 양쪽에서 집계될 수 있음)
+        LocalDateTime countedBefore = now.minusSeconds(WatchHistory.VIEW_COUNT_MIN_SECONDS);
+        List<Object[]> countable = watchHistoryRepository.countCountableByContent(scheduleIds, countedBefore);
+        int total = watchHistoryRepository.closeByScheduleItemIds(scheduleIds, now, countedBefore);
+        for (Object[] row : countable) {
+            countViews((Long) row[0], ((Long) row[1]).intValue());
+        }
+        if (total > 0) {
+            log.info("상영 종료 시청 기록 퇴장 처리: schedules={}, closed={}", scheduleIds.size(), total);
+        }
+    }
+
+    private List<Long> withoutLocalSession(long scheduleId, Set<Long> users) {
+        if (users == null) {
+            return List.of();
+        }
+        return users.stream()
+                .filter(userId -> !presenceRegistry.hasSession(scheduleId, userId))
+                .toList();
+    }
+
+    /** /topic/theaters/{scheduleId}/sessions/... */
+    private static long scheduleIdOf(String destination) {
+        String[] parts = destination.split("/");
+        return Long.parseLong(parts[3]);
+    }
+
+    private static byte[] payloadOf(Collection<Long> userIds) {
+        return userIds.stream().map(String::valueOf).collect(Collectors.joining(","))
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Set<Long> userIdsOf(byte[] payload) {
+        return Arrays.stream(new String(payload, StandardCharsets.UTF_8).split(","))
+                .map(Long::parseLong)
+                .collect(Collectors.toSet());
+    }
+
+    private Map<Long, Long> contentIdsOf(Collection<Long> scheduleIds) {
+        Map<Long, Long> contentIds = new HashMap<>();
+        for (Object[] row : scheduleItemRepository.findContentIdsByIdIn(scheduleIds)) {
+            contentIds.put((Long) row[0], (Long) row[1]);
+        }
+        return contentIds;
+    }
+
+    private void countViews(Long contentId, int counted) {
+        if (contentId != null && counted > 0) {
+            contentViewCounter.increment(contentId, counted);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.cinema.service.user;
 
 import com.example.cinema.config.common.JwtTokenProvider;
+import com.example.cinema.config.common.PrincipalCache;
+import com.example.cinema.config.webSocket.StompPrincipalRegistry;
 import com.example.cinema.dto.auth.LoginRequest;
 import com.example.cinema.dto.auth.SignupRequest;
 import com.example.cinema.dto.auth.TokenResponse;
@@ -27,6 +29,8 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import static com.example.cinema.util.TransactionUtil.afterCommit;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -39,6 +43,8 @@ public class UserService {
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
     private final com.example.cinema.repository.auth.RefreshTokenRepository refreshTokenRepository;
+    private final StompPrincipalRegistry stompPrincipalRegistry;
+    private final PrincipalCache principalCache;
 
     @Value("${aws.cloudfront.domain}")
     private String cfDomain;
@@ -68,6 +74,12 @@ public class UserService {
         }
 
         user.updateProfile(request.getNickname(), profileImage);
+        principalCache.evict(user.getEmail());
+        if (request.getNickname() != null) {
+            // 접속 중인 STOMP 세션의 채팅 닉네임 갱신 (커밋 후, 롤백되면 이전 닉네임 유지)
+            String nickname = user.getNickname();
+            afterCommit(() -> stompPrincipalRegistry.updateNickname(userId, nickname));
+        }
 
         return UserUpdateResponse.from(user);
     }
@@ -154,6 +166,7 @@ public class UserService {
     @Transactional
     public void logout(String username) {
         refreshTokenRepository.deleteById(username);
+        principalCache.evict(username);
     }
 
     @Transactional
@@ -167,6 +180,7 @@ public class UserService {
 
         refreshTokenRepository.deleteById(user.getEmail());
         user.withdraw();
+        principalCache.evict(user.getEmail());
     }
 
     public List<TheaterLogResponse> getWatchHistory(Long userId) {
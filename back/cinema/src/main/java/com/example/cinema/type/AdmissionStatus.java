@@ -0,0 +1,6 @@
+package com.example.cinema.type;
+
+public enum AdmissionStatus {
+    ADMITTED,  // 입장권 발급됨 (ticket 으로 입장)
+    WAITING    // 대기열 대기 중
+}
@@ -0,0 +1,123 @@
+package com.example.cinema.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 계층형 타이머 휠 (동기화는 호출하는 쪽에서 처리)
+ * - 레벨 L 의 슬롯 하나 = tickMs * 2^(bits * L), 레벨당 슬롯 2^bits 개
+ * - 등록/만료 모두 O(1), 상위 레벨 슬롯은 해당 구간에 도달할 때 하위 레벨로 재배치(cascade)
+ * - 최상위 레벨 범위를 넘는 항목은 overflow 에 두었다가 범위 안으로 들어오면 재배치
+ * - 이미 지난 시각으로 등록한 항목은 다음 advance 에서 바로 만료
+ */
+public class HierarchicalTimerWheel<T> {
+
+    private record Entry<T>(long tick, T task) {
+    }
+
+    private final long tickMs;
+    private final int bits;
+    private final int mask;
+    private final int levels;
+    private final List<Entry<T>>[][] slots;
+    private final List<Entry<T>> overflow = new ArrayList<>();
+    private final List<Entry<T>> overdue = new ArrayList<>();
+
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimerWheel(long tickMs, int bits, int levels, long startMs) {
+        if (tickMs <= 0 || bits <= 0 || levels <= 0 || bits * levels >= 62) {
+            throw new IllegalArgumentException("잘못된 타이머 휠 설정입니다.");
+        }
+        this.tickMs = tickMs;
+        this.bits = bits;
+        this.mask = (1 << bits) - 1;
+        this.levels = levels;
+        this.slots = new List[levels][1 << bits];
+        this.currentTick = startMs / tickMs;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void add(long deadlineMs, T task) {
+        place(new Entry<>(Math.floorDiv(deadlineMs, tickMs), task));
+        size++;
+    }
+
+    /**
+     * nowMs 까지 시간을 진행하고 만료된 항목 반환
+     */
+    public List<T> advance(long nowMs) {
+        List<T> expired = new ArrayList<>();
+        long targetTick = Math.floorDiv(nowMs, tickMs);
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+            List<Entry<T>> due = slots[0][(int) (currentTick & mask)];
+            if (due != null && !due.isEmpty()) {
+                due.forEach(entry -> expired.add(entry.task()));
+                due.clear();
+            }
+        }
+        // 이미 지난 시각으로 등록된 항목 + cascade 중 현재 tick 에 도달한 항목
+        if (!overdue.isEmpty()) {
+            overdue.forEach(entry -> expired.add(entry.task()));
+            overdue.clear();
+        }
+        size -= expired.size();
+        return expired;
+    }
+
+    /**
+     * 상위 레벨 구간 경계를 지날 때 해당 슬롯을 하위 레벨로 재배치
+     */
+    private void cascade() {
+        for (int level = 1; level <= levels; level++) {
+            int shift = bits * level;
+            if ((currentTick & ((1L << shift) - 1)) != 0) {
+                return;
+            }
+            List<Entry<T>> moving;
+            if (level == levels) {
+                moving = new ArrayList<>(overflow);
+                overflow.clear();
+            } else {
+                List<Entry<T>> slot = slots[level][(int) ((currentTick >>> shift) & mask)];
+                if (slot == null || slot.isEmpty()) {
+                    continue;
+                }
+                moving = new ArrayList<>(slot);
+                slot.clear();
+            }
+            moving.forEach(this::place);
+        }
+    }
+
+    /**
+     * 현재 시각과 상위 구간이 같아지는 가장 낮은 레벨에 배치
+     */
+    private void place(Entry<T> entry) {
+        if (entry.tick() <= currentTick) {
+            overdue.add(entry);
+            return;
+        }
+        for (int level = 0; level < levels; level++) {
+            int upperShift = bits * (level + 1);
+            if ((entry.tick() >>> upperShift) == (currentTick >>> upperShift)) {
+                int index = (int) ((entry.tick() >>> (bits * level)) & mask);
+                List<Entry<T>> slot = slots[level][index];
+                if (slot == null) {
+                    slot = new ArrayList<>();
+                    slots[level][index] = slot;
+                }
+                slot.add(entry);
+                return;
+            }
+        }
+        overflow.add(entry);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.cinema.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 후 실행 도우미
+ * - 롤백되면 커밋 후 작업은 실행되지 않음
+ * - 트랜잭션 밖에서 호출하면 바로 실행
+ */
+public final class TransactionUtil {
+    private TransactionUtil() {}
+
+    /**
+     * 커밋 후 실행 (메시지 전송, 메모리 카운터 반영 등 롤백되면 안 되는 부수 효과)
+     */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * 바로 실행 + 커밋 후 한 번 더 실행 (캐시 제거용)
+     * 커밋 전에 다른 요청이 이전 상태를 다시 캐시했을 수 있으므로 커밋 후에도 제거
+     */
+    public static void nowAndAfterCommit(Runnable action) {
+        action.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            afterCommit(action);
+        }
+    }
+}
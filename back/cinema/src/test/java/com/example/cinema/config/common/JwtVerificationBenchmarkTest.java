@@ -0,0 +1,97 @@
+package com.example.cinema.config.common;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.security.Key;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JWT 검증 처리량 비교 (JMH, ./gradlew benchmark)
+ * - before: 필터가 validateToken + getAuthentication 으로 요청마다 파서 2회 생성, HS512 검증 2회
+ * - after : 공유 파서로 1회 검증 후 claims 재사용 (verifyClaims)
+ * 단일 스레드 측정이므로 결과(ops/s)가 코어당 검증 처리량
+ */
+@Tag("benchmark")
+public class JwtVerificationBenchmarkTest {
+
+    private static final String SECRET =
+            "YmVuY2htYXJrLXNlY3JldC1iZW5jaG1hcmstc2VjcmV0LWJlbmNobWFyay1zZWNyZXQtYmVuY2htYXJrLXNlY3JldA==";
+
+    @State(Scope.Thread)
+    public static class Tokens {
+        Key key;
+        JwtTokenProvider provider;
+        String token;
+
+        @Setup
+        public void setUp() {
+            key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+            provider = new JwtTokenProvider(SECRET, null, new PrincipalCache());
+            token = provider.generateToken(new UsernamePasswordAuthenticationToken(
+                    "bench@cinema.test", null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+        }
+    }
+
+    @Benchmark
+    public Claims before(Tokens s) {
+        Jwts.parserBuilder().setSigningKey(s.key).build().parseClaimsJws(s.token);
+        return Jwts.parserBuilder().setSigningKey(s.key).build().parseClaimsJws(s.token).getBody();
+    }
+
+    @Benchmark
+    public Claims after(Tokens s) {
+        return s.provider.verifyClaims(s.token);
+    }
+
+    @Test
+    @DisplayName("공유 파서 1회 검증이 요청당 2회 파싱보다 처리량이 높아야 한다")
+    void verificationsPerSecondPerCore() throws Exception {
+        Options options = new OptionsBuilder()
+                .include(JwtVerificationBenchmarkTest.class.getName() + "\\.")
+                .mode(Mode.Throughput)
+                .timeUnit(TimeUnit.SECONDS)
+                .threads(1)
+                .forks(0)
+                .warmupIterations(3)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .build();
+
+        Collection<RunResult> results = new Runner(options).run();
+
+        double before = score(results, "before");
+        double after = score(results, "after");
+        System.out.printf("[jwt verify] per core: before=%,.0f req/s (%,.0f HMAC/s) after=%,.0f req/s (%,.0f HMAC/s) x%.2f%n",
+                before, before * 2, after, after, after / before);
+
+        assertThat(after).isGreaterThan(before);
+    }
+
+    private static double score(Collection<RunResult> results, String method) {
+        return results.stream()
+                .filter(r -> r.getParams().getBenchmark().endsWith("." + method))
+                .findFirst()
+                .orElseThrow()
+                .getPrimaryResult()
+                .getScore();
+    }
+}
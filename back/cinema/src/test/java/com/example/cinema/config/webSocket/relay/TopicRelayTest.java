@@ -0,0 +1,216 @@
+package com.example.cinema.config.webSocket.relay;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 노드 간 토픽 중계 검증
+ * 노드 = brokerChannel(동기) + TopicRelayInterceptor + 로컬 구독자 큐
+ */
+class TopicRelayTest {
+
+    private static final String SECRET = "relay-test-secret";
+
+    private final List<TopicRelay> relays = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        relays.forEach(TopicRelay::close);
+    }
+
+    @Test
+    @DisplayName("in-process: 한 노드에서 발행한 메시지가 다른 노드 구독자에게 1회 전달된다")
+    void inProcessRelay() throws Exception {
+        InProcessTopicRelay.Bus bus = new InProcessTopicRelay.Bus();
+        Node a = new Node(register(new InProcessTopicRelay(bus)));
+        Node b = new Node(register(new InProcessTopicRelay(bus)));
+
+        a.template.convertAndSend("/topic/theaters/1/chat", "hello", TopicRelayInterceptor.relayHeaders());
+
+        assertDelivered(a, "hello");
+        assertDelivered(b, "hello");
+        assertThat(a.received.poll(100, TimeUnit.MILLISECONDS)).isNull();
+        assertThat(b.received.poll(100, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    @DisplayName("in-process: 중계 헤더 없이 보낸 메시지(heartbeat 등)는 로컬에만 전달된다")
+    void keepsUnmarkedMessagesLocal() throws Exception {
+        InProcessTopicRelay.Bus bus = new InProcessTopicRelay.Bus();
+        Node a = new Node(register(new InProcessTopicRelay(bus)));
+        Node b = new Node(register(new InProcessTopicRelay(bus)));
+
+        a.template.convertAndSend("/topic/theaters/1/state", "heartbeat");
+
+        assertDelivered(a, "heartbeat");
+        assertThat(b.received.poll(100, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    @DisplayName("in-process: publish 로 보낸 프레임은 받는 노드에서 접미사로 등록된 처리기가 받는다")
+    void handsRegisteredSuffixToHandler() throws Exception {
+        InProcessTopicRelay.Bus bus = new InProcessTopicRelay.Bus();
+        Node a = new Node(register(new InProcessTopicRelay(bus)));
+        Node b = new Node(register(new InProcessTopicRelay(bus)));
+        BlockingQueue<String> handled = new LinkedBlockingQueue<>();
+        b.interceptor.handle("/viewers/recount", frame -> handled.add(frame.destination()));
+
+        a.interceptor.publish("/topic/theaters/3/viewers/recount", "3".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(handled.poll(2, TimeUnit.SECONDS)).isEqualTo("/topic/theaters/3/viewers/recount");
+        assertThat(a.received.poll(100, TimeUnit.MILLISECONDS)).isNull();
+        assertThat(b.received.poll(100, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    @DisplayName("in-process: /topic/theaters/** 외 목적지는 중계하지 않는다")
+    void ignoresOtherDestinations() throws Exception {
+        InProcessTopicRelay.Bus bus = new InProcessTopicRelay.Bus();
+        Node a = new Node(register(new InProcessTopicRelay(bus)));
+        Node b = new Node(register(new InProcessTopicRelay(bus)));
+
+        a.template.convertAndSend("/topic/notice", "local", TopicRelayInterceptor.relayHeaders());
+
+        assertDelivered(a, "local");
+        assertThat(b.received.poll(100, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    @DisplayName("tcp: 허브/클라이언트 어느 노드에서 발행해도 모든 노드에 전달된다")
+    void tcpLoopbackRelay() throws Exception {
+        int port = freePort();
+        TcpTopicRelay hubRelay = register(tcp(port, true, SECRET));
+        Node hub = new Node(hubRelay);
+        Node c1 = new Node(register(tcp(port, false, SECRET)));
+        Node c2 = new Node(register(tcp(port, false, SECRET)));
+        awaitPeers(hubRelay, 2);
+
+        c1.template.convertAndSend("/topic/theaters/7/state", "from-client", TopicRelayInterceptor.relayHeaders());
+        assertDelivered(c1, "from-client");
+        assertDelivered(hub, "from-client");
+        assertDelivered(c2, "from-client");
+
+        hub.template.convertAndSend("/topic/theaters/7/state", "from-hub", TopicRelayInterceptor.relayHeaders());
+        assertDelivered(hub, "from-hub");
+        assertDelivered(c1, "from-hub");
+        assertDelivered(c2, "from-hub");
+
+        assertThat(c1.received.poll(200, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    @DisplayName("tcp: secret 이 다른 노드는 허브에 등록되지 않고 메시지를 주고받지 못한다")
+    void tcpRejectsWrongSecret() throws Exception {
+        int port = freePort();
+        TcpTopicRelay hubRelay = register(tcp(port, true, SECRET));
+        Node hub = new Node(hubRelay);
+        TcpTopicRelay intruderRelay = register(tcp(port, false, "wrong-secret"));
+        Node intruder = new Node(intruderRelay);
+        Thread.sleep(300);
+
+        assertThat(hubRelay.peerCount()).isZero();
+        assertThat(intruderRelay.peerCount()).isZero();
+
+        intruder.template.convertAndSend("/topic/theaters/7/state", "forged", TopicRelayInterceptor.relayHeaders());
+        assertDelivered(intruder, "forged");
+        assertThat(hub.received.poll(200, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    @DisplayName("tcp: max-frame-bytes 를 넘는 길이의 프레임을 받으면 할당하지 않고 연결을 끊는다")
+    void tcpRejectsOversizedFrame() throws Exception {
+        int port = freePort();
+        TcpTopicRelay hubRelay = register(tcp(port, true, SECRET));
+        Node hub = new Node(hubRelay);
+        TcpTopicRelay clientRelay = register(new TcpTopicRelay("127.0.0.1", port, false, 50, SECRET, 64, 1 << 20));
+        Node client = new Node(clientRelay);
+        awaitPeers(hubRelay, 1);
+
+        client.template.convertAndSend("/topic/theaters/7/state", "x".repeat(2048), TopicRelayInterceptor.relayHeaders());
+
+        assertDelivered(client, "x".repeat(2048));
+        assertThat(hub.received.poll(200, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    @DisplayName("중계받은 프레임의 목적지가 prefix 밖이면 로컬 브로커에 주입하지 않는다")
+    void rejectsRelayedFrameOutsidePrefix() throws Exception {
+        InProcessTopicRelay.Bus bus = new InProcessTopicRelay.Bus();
+        InProcessTopicRelay forger = register(new InProcessTopicRelay(bus));
+        Node b = new Node(register(new InProcessTopicRelay(bus)));
+        forger.start(frame -> {
+        });
+
+        forger.publish(new TopicRelay.RelayFrame("/user/1/queue/notice", null, "forged".getBytes(StandardCharsets.UTF_8)));
+        forger.publish(new TopicRelay.RelayFrame("/topic/theaters/../notice", null, "forged".getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(b.received.poll(100, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    private static TcpTopicRelay tcp(int port, boolean hub, String secret) {
+        return new TcpTopicRelay("127.0.0.1", port, hub, 50, secret, 64, 1024);
+    }
+
+    private <T extends TopicRelay> T register(T relay) {
+        relays.add(relay);
+        return relay;
+    }
+
+    private static void assertDelivered(Node node, String expected) throws InterruptedException {
+        Message<?> message = node.received.poll(2, TimeUnit.SECONDS);
+        assertThat(message).as("message delivered").isNotNull();
+        Object payload = message.getPayload();
+        String body = payload instanceof byte[] bytes ? new String(bytes, StandardCharsets.UTF_8) : (String) payload;
+        assertThat(body).isEqualTo(expected);
+        assertThat(SimpMessageHeaderAccessor.wrap(message).getDestination()).startsWith("/topic/");
+    }
+
+    private static void awaitPeers(TcpTopicRelay hub, int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (hub.peerCount() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(hub.peerCount()).isEqualTo(expected);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    /**
+     * simple broker 대신 로컬 구독자 큐를 붙인 brokerChannel
+     */
+    private static final class Node {
+
+        final BlockingQueue<Message<?>> received = new LinkedBlockingQueue<>();
+        final SimpMessagingTemplate template;
+        final TopicRelayInterceptor interceptor;
+
+        Node(TopicRelay relay) {
+            ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+            brokerChannel.subscribe(received::add);
+            interceptor = new TopicRelayInterceptor(relay, brokerChannel);
+            brokerChannel.addInterceptor(interceptor);
+            interceptor.start();
+            template = new SimpMessagingTemplate(brokerChannel);
+        }
+    }
+}
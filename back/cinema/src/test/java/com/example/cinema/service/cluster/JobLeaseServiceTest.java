@@ -0,0 +1,71 @@
+package com.example.cinema.service.cluster;
+
+import com.example.cinema.dto.cluster.JobLeaseResponse;
+import com.example.cinema.repository.cluster.JobLeaseRepository;
+import com.example.cinema.support.H2SpringBootTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주기 작업 리더 임대 테스트 (H2 MySQL 모드)
+ * - 같은 DB 를 쓰는 두 노드를 서비스 인스턴스 두 개로 흉내
+ */
+@H2SpringBootTest
+class JobLeaseServiceTest {
+
+    private static final String JOB = JobLeaseService.SCHEDULE_STATUS;
+
+    @Autowired
+    private JobLeaseRepository jobLeaseRepository;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("한 노드만 리더가 되고, 임대가 만료되거나 반납되면 다른 노드가 인계해야 한다")
+    void electsSingleLeaderAndFailsOver() {
+        JobLeaseService nodeA = node("node-a");
+        JobLeaseService nodeB = node("node-b");
+
+        assertThat(nodeA.isLeader(JOB)).isTrue();
+        assertThat(nodeB.isLeader(JOB)).isFalse();
+        assertThat(nodeA.isLeader(JOB)).isTrue();
+        LocalDateTime acquiredAt = jobLeaseRepository.findById(JOB).orElseThrow().getAcquiredAt();
+
+        // node-a 가 죽어 갱신이 멈춘 상황
+        jdbcTemplate.update("UPDATE job_leases SET lease_until = ? WHERE job_name = ?",
+                LocalDateTime.now().minusSeconds(1), JOB);
+        assertThat(nodeB.isLeader(JOB)).isTrue();
+        JobLeaseResponse lease = nodeB.getLeases().stream()
+                .filter(l -> l.getJobName().equals(JOB))
+                .findFirst().orElseThrow();
+        assertThat(lease.getOwnerId()).isEqualTo("node-b");
+        assertThat(lease.isActive()).isTrue();
+        assertThat(lease.isSelf()).isTrue();
+        assertThat(lease.getAcquiredAt()).isAfterOrEqualTo(acquiredAt);
+
+        // 다음 갱신에서 빼앗긴 것을 알아야 함
+        nodeA.renew();
+        assertThat(nodeA.isLeader(JOB)).isFalse();
+
+        nodeB.release();
+        assertThat(nodeA.isLeader(JOB)).isTrue();
+        assertThat(nodeB.isLeader(JOB)).isFalse();
+    }
+
+    private JobLeaseService node(String nodeId) {
+        // 직접 만든 인스턴스는 @Value 기본값 사용 (enabled=true, ttl 15초)
+        return new JobLeaseService(jobLeaseRepository, eventPublisher, transactionManager, nodeId, 8080);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.cinema.service.content;
+
+import com.example.cinema.entity.Content;
+import com.example.cinema.repository.content.ContentRepository;
+import com.example.cinema.support.H2SpringBootTest;
+import com.example.cinema.support.TestFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회수 집계 후 일괄 반영 테스트 (H2 MySQL 모드)
+ */
+@H2SpringBootTest
+class ContentViewCounterTest {
+
+    @Autowired
+    private ContentViewCounter contentViewCounter;
+    @Autowired
+    private ContentRepository contentRepository;
+    @Autowired
+    private TestFixtures fixtures;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("동시에 누적된 조회수가 flush 1회로 total/month 에 모두 반영되어야 한다")
+    void flushesConcurrentIncrements() {
+        Content content = seedContent("concurrent");
+        long contentId = content.getContentId();
+        // 같은 컨텍스트를 쓰는 다른 테스트가 남긴 집계분
+        long pending = contentViewCounter.getPendingIncrements();
+
+        try (ExecutorService viewers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 10_000; i++) {
+                viewers.submit(() -> contentViewCounter.increment(contentId));
+            }
+        }
+        assertThat(contentViewCounter.getPendingIncrements()).isEqualTo(pending + 10_000L);
+
+        contentViewCounter.flush();
+
+        assertThat(contentViewCounter.getPendingIncrements()).isZero();
+        assertThat(contentRepository.findById(contentId)).hasValueSatisfying(saved -> {
+            assertThat(saved.getTotalView()).isEqualTo(10_000L);
+            assertThat(saved.getMonthView()).isEqualTo(10_000L);
+        });
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션의 조회수는 누적되지 않아야 한다")
+    void ignoresRolledBackIncrements() {
+        Content content = seedContent("rollback");
+        long contentId = content.getContentId();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            contentViewCounter.increment(contentId);
+            status.setRollbackOnly();
+        });
+        transactionTemplate.executeWithoutResult(status -> contentViewCounter.increment(contentId));
+        contentViewCounter.flush();
+
+        assertThat(contentRepository.findById(contentId))
+                .hasValueSatisfying(saved -> assertThat(saved.getTotalView()).isEqualTo(1L));
+    }
+
+    private Content seedContent(String name) {
+        return fixtures.content(fixtures.seller(name), name);
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.cinema.service.schedule;
+
+import com.example.cinema.dto.schedule.ScheduleBulkCreateRequest;
+import com.example.cinema.dto.schedule.ScheduleBulkCreateResponse;
+import com.example.cinema.dto.schedule.ScheduleCreateRequest;
+import com.example.cinema.dto.schedule.ScheduleRecurrenceRequest;
+import com.example.cinema.dto.schedule.ScheduleSlotRequest;
+import com.example.cinema.entity.Content;
+import com.example.cinema.entity.ScheduleItem;
+import com.example.cinema.entity.User;
+import com.example.cinema.exception.BusinessException;
+import com.example.cinema.exception.ErrorCode;
+import com.example.cinema.repository.schedule.ScheduleDayRepository;
+import com.example.cinema.repository.schedule.ScheduleItemRepository;
+import com.example.cinema.support.H2SpringBootTest;
+import com.example.cinema.support.TestFixtures;
+import com.example.cinema.type.ScheduleStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 상영 일정 일괄 생성 테스트 (H2 MySQL 모드)
+ */
+@H2SpringBootTest
+class ScheduleBulkCreateTest {
+
+    private static final LocalDate MONDAY = LocalDate.now().plusWeeks(2).with(DayOfWeek.MONDAY);
+
+    @Autowired
+    private ScheduleService scheduleService;
+    @Autowired
+    private ScheduleItemRepository scheduleItemRepository;
+    @Autowired
+    private ScheduleDayRepository scheduleDayRepository;
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    @DisplayName("반복 규칙과 슬롯을 펼쳐 한 번에 생성하고, 기존 일정이나 서로 겹치면 아무것도 만들지 않아야 한다")
+    void createsRecurringSchedules() {
+        User owner = fixtures.seller("owner-bulk");
+        Content movie = fixtures.content(owner, "movie");
+        Content other = fixtures.content(owner, "other");
+
+        // 다른 콘텐츠의 기존 일정 (수요일 14:00 ~ 15:00)
+        scheduleService.createSchedule(create(other, MONDAY.plusDays(2).atTime(14, 0), MONDAY.plusDays(2).atTime(15, 0)), owner);
+
+        // 평일 10:00 / 13:00 / 16:00, 각 2시간 → 수요일 13:00 회차가 기존 일정과 겹침
+        ScheduleRecurrenceRequest weekdays = recurrence(MONDAY, MONDAY.plusDays(6),
+                List.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY, DayOfWeek.THURSDAY, DayOfWeek.FRIDAY),
+                List.of(LocalTime.of(10, 0), LocalTime.of(13, 0), LocalTime.of(16, 0)), 120);
+        assertThatThrownBy(() -> scheduleService.createSchedules(bulk(movie, weekdays, null), owner))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.SCHEDULE_CONFLICT);
+        assertThat(scheduleItemRepository.findAll())
+                .filteredOn(schedule -> owner.getUserId().equals(schedule.getOwnerId())).hasSize(1);
+
+        // 13:00 회차를 빼고 토요일 슬롯 추가
+        ScheduleRecurrenceRequest mornings = recurrence(MONDAY, MONDAY.plusDays(6),
+                List.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY, DayOfWeek.THURSDAY, DayOfWeek.FRIDAY),
+                List.of(LocalTime.of(10, 0), LocalTime.of(16, 0)), 120);
+        LocalDateTime saturday = MONDAY.plusDays(5).atTime(20, 0);
+        ScheduleBulkCreateResponse response = scheduleService.createSchedules(
+                bulk(movie, mornings, List.of(slot(saturday, saturday.plusHours(2)))), owner);
+
+        assertThat(response.getCreatedCount()).isEqualTo(11);
+        assertThat(response.getSchedules()).hasSize(11)
+                .allSatisfy(schedule -> assertThat(schedule.getScheduleDayId()).isNotNull());
+        assertThat(scheduleDayRepository.findAllByContent_ContentIdAndScheduleDateIn(
+                movie.getContentId(), List.of(MONDAY, MONDAY.plusDays(5), MONDAY.plusDays(6)))).hasSize(2);
+
+        ScheduleItem first = scheduleItemRepository.findById(response.getSchedules().get(0).getScheduleItemId()).orElseThrow();
+        assertThat(first.getStartAt()).isEqualTo(MONDAY.atTime(10, 0));
+        assertThat(first.getEndAt()).isEqualTo(MONDAY.atTime(12, 0));
+        assertThat(first.getOwnerId()).isEqualTo(owner.getUserId());
+        assertThat(first.getStatus()).isEqualTo(ScheduleStatus.CLOSED);
+
+        // 요청한 슬롯끼리 겹치는 경우
+        LocalDateTime sunday = MONDAY.plusDays(6).atTime(10, 0);
+        assertThatThrownBy(() -> scheduleService.createSchedules(bulk(movie, null, List.of(
+                slot(sunday, sunday.plusHours(2)), slot(sunday.plusHours(1), sunday.plusHours(3)))), owner))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.SCHEDULE_CONFLICT);
+    }
+
+    private static ScheduleBulkCreateRequest bulk(Content content, ScheduleRecurrenceRequest recurrence, List<ScheduleSlotRequest> slots) {
+        ScheduleBulkCreateRequest request = new ScheduleBulkCreateRequest();
+        ReflectionTestUtils.setField(request, "contentId", content.getContentId());
+        ReflectionTestUtils.setField(request, "recurrence", recurrence);
+        ReflectionTestUtils.setField(request, "slots", slots);
+        return request;
+    }
+
+    private static ScheduleRecurrenceRequest recurrence(LocalDate startDate, LocalDate endDate, List<DayOfWeek> daysOfWeek,
+                                                        List<LocalTime> startTimes, int durationMinutes) {
+        ScheduleRecurrenceRequest request = new ScheduleRecurrenceRequest();
+        ReflectionTestUtils.setField(request, "startDate", startDate);
+        ReflectionTestUtils.setField(request, "endDate", endDate);
+        ReflectionTestUtils.setField(request, "daysOfWeek", daysOfWeek);
+        ReflectionTestUtils.setField(request, "startTimes", startTimes);
+        ReflectionTestUtils.setField(request, "durationMinutes", durationMinutes);
+        return request;
+    }
+
+    private static ScheduleSlotRequest slot(LocalDateTime startAt, LocalDateTime endAt) {
+        ScheduleSlotRequest request = new ScheduleSlotRequest();
+        ReflectionTestUtils.setField(request, "startAt", startAt);
+        ReflectionTestUtils.setField(request, "endAt", endAt);
+        return request;
+    }
+
+    private static ScheduleCreateRequest create(Content content, LocalDateTime startAt, LocalDateTime endAt) {
+        ScheduleCreateRequest request = new ScheduleCreateRequest();
+        ReflectionTestUtils.setField(request, "contentId", content.getContentId());
+        ReflectionTestUtils.setField(request, "scheduleDate", startAt.toLocalDate());
+        ReflectionTestUtils.setField(request, "startAt", startAt);
+        ReflectionTestUtils.setField(request, "endAt", endAt);
+        return request;
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.cinema.service.schedule;
+
+import com.example.cinema.dto.schedule.ScheduleCreateRequest;
+import com.example.cinema.dto.schedule.ScheduleEditRequest;
+import com.example.cinema.entity.Content;
+import com.example.cinema.entity.ScheduleItem;
+import com.example.cinema.entity.User;
+import com.example.cinema.exception.BusinessException;
+import com.example.cinema.exception.ErrorCode;
+import com.example.cinema.repository.schedule.ScheduleItemRepository;
+import com.example.cinema.support.H2SpringBootTest;
+import com.example.cinema.support.TestFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 창작자 일정 겹침 검사 테스트 (H2 MySQL 모드)
+ */
+@H2SpringBootTest
+class ScheduleOverlapTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.now().plusDays(3).withHour(10).withMinute(0).withSecond(0).withNano(0);
+
+    @Autowired
+    private ScheduleService scheduleService;
+    @Autowired
+    private ScheduleItemRepository scheduleItemRepository;
+    @Autowired
+    private TestFixtures fixtures;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("같은 창작자의 다른 콘텐츠와 겹치는 일정은 거부하고, 맞닿은 일정과 자기 자신 수정은 허용해야 한다")
+    void rejectsOverlapAcrossOwnerContents() {
+        User owner = fixtures.seller("owner-overlap");
+        Content first = fixtures.content(owner, "first");
+        Content second = fixtures.content(owner, "second");
+
+        Long morning = scheduleService.createSchedule(create(first, BASE, BASE.plusHours(2)), owner).getScheduleItemId();
+        scheduleService.createSchedule(create(first, BASE.plusHours(6), BASE.plusHours(8)), owner);
+
+        ScheduleItem saved = scheduleItemRepository.findById(morning).orElseThrow();
+        assertThat(saved.getOwnerId()).isEqualTo(owner.getUserId());
+
+        // 다른 콘텐츠라도 같은 창작자면 겹침
+        assertThatThrownBy(() -> scheduleService.createSchedule(create(second, BASE.plusHours(1), BASE.plusHours(3)), owner))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.SCHEDULE_CONFLICT);
+        // 두 일정 사이를 모두 덮는 경우
+        assertThatThrownBy(() -> scheduleService.createSchedule(create(second, BASE.plusHours(1), BASE.plusHours(9)), owner))
+                .isInstanceOf(BusinessException.class);
+
+        // 앞뒤 일정에 맞닿은 경우는 허용
+        scheduleService.createSchedule(create(second, BASE.plusHours(2), BASE.plusHours(6)), owner);
+
+        // 자기 자신과는 겹쳐도 되지만 다음 일정과 겹치면 거부
+        scheduleService.editSchedule(morning, edit(BASE.minusHours(1), BASE.plusHours(2)), owner);
+        assertThatThrownBy(() -> scheduleService.editSchedule(morning, edit(BASE, BASE.plusHours(3)), owner))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("기존 일정끼리 겹쳐 있어도(이전 데이터) 그 안에 들어가는 일정은 거부해야 한다")
+    void rejectsInsideLegacyOverlap() {
+        User owner = fixtures.seller("owner-legacy");
+        Content content = fixtures.content(owner, "legacy");
+        Long wide = scheduleService.createSchedule(create(content, BASE, BASE.plusHours(1)), owner).getScheduleItemId();
+        scheduleService.createSchedule(create(content, BASE.plusHours(3), BASE.plusHours(4)), owner);
+        // 겹침 검사 이전에 저장된 데이터처럼 첫 일정이 두 번째 일정을 덮도록 넓힘
+        jdbcTemplate.update("UPDATE schedule_items SET end_at = ? WHERE schedule_item_id = ?", BASE.plusHours(10), wide);
+
+        // 직전에 시작한 일정(3~4시)은 먼저 끝나지만, 더 앞선 일정(0~10시)과 겹침
+        assertThatThrownBy(() -> scheduleService.createSchedule(create(content, BASE.plusHours(5), BASE.plusHours(6)), owner))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.SCHEDULE_CONFLICT);
+        scheduleService.createSchedule(create(content, BASE.plusHours(10), BASE.plusHours(11)), owner);
+    }
+
+    @Test
+    @DisplayName("최대 상영 길이를 넘는 일정은 거부해야 한다 (겹침 검사 하한의 전제)")
+    void rejectsLongerThanMaxDuration() {
+        User owner = fixtures.seller("owner-long");
+        Content content = fixtures.content(owner, "long");
+
+        assertThatThrownBy(() -> scheduleService.createSchedule(create(content, BASE, BASE.plusHours(25)), owner))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+        scheduleService.createSchedule(create(content, BASE, BASE.plusHours(24)), owner);
+    }
+
+    private static ScheduleCreateRequest create(Content content, LocalDateTime startAt, LocalDateTime endAt) {
+        ScheduleCreateRequest request = new ScheduleCreateRequest();
+        ReflectionTestUtils.setField(request, "contentId", content.getContentId());
+        ReflectionTestUtils.setField(request, "scheduleDate", startAt.toLocalDate());
+        ReflectionTestUtils.setField(request, "startAt", startAt);
+        ReflectionTestUtils.setField(request, "endAt", endAt);
+        return request;
+    }
+
+    private static ScheduleEditRequest edit(LocalDateTime startAt, LocalDateTime endAt) {
+        ScheduleEditRequest request = new ScheduleEditRequest();
+        ReflectionTestUtils.setField(request, "startAt", startAt);
+        ReflectionTestUtils.setField(request, "endAt", endAt);
+        return request;
+    }
+}
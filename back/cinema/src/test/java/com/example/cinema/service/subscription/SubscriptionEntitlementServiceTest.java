@@ -0,0 +1,77 @@
+package com.example.cinema.service.subscription;
+
+import com.example.cinema.entity.Subscription;
+import com.example.cinema.entity.User;
+import com.example.cinema.repository.subscription.SubscriptionRepository;
+import com.example.cinema.support.H2SpringBootTest;
+import com.example.cinema.support.TestFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 구독 이용 권한 캐시 테스트 (H2 MySQL 모드)
+ */
+@H2SpringBootTest
+class SubscriptionEntitlementServiceTest {
+
+    @Autowired
+    private SubscriptionEntitlementService entitlementService;
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    @DisplayName("캐시된 권한은 evict 전까지 유지되고, evict 후에는 DB 상태를 다시 반영해야 한다")
+    void cachesUntilEvicted() {
+        User user = fixtures.subscriber("entitled");
+        Subscription subscription = subscriptionRepository.findBySubscriber(user).orElseThrow();
+
+        assertThat(entitlementService.isEntitled(user.getUserId())).isTrue();
+
+        subscription.cancel();
+        subscriptionRepository.save(subscription);
+        assertThat(entitlementService.isEntitled(user.getUserId())).isTrue();
+
+        entitlementService.evict(user.getUserId());
+        assertThat(entitlementService.isEntitled(user.getUserId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("조회 중 evict 가 끼어든 결과는 캐시하지 않아야 한다")
+    void doesNotCacheLoadRacingEvict() {
+        SubscriptionRepository repository = mock(SubscriptionRepository.class);
+        SubscriptionEntitlementService service = new SubscriptionEntitlementService(repository);
+        AtomicBoolean first = new AtomicBoolean(true);
+        when(repository.findBySubscriber_UserIdAndIsActiveTrue(1L)).thenAnswer(invocation -> {
+            if (first.getAndSet(false)) {
+                service.evict(1L);
+            }
+            return Optional.empty();
+        });
+
+        service.isEntitled(1L);
+        service.isEntitled(1L);
+        service.isEntitled(1L);
+
+        verify(repository, times(2)).findBySubscriber_UserIdAndIsActiveTrue(1L);
+    }
+
+    @Test
+    @DisplayName("구독이 없는 사용자는 권한이 없어야 한다")
+    void notEntitledWithoutSubscription() {
+        User user = fixtures.user("none");
+
+        assertThat(entitlementService.isEntitled(user.getUserId())).isFalse();
+    }
+}
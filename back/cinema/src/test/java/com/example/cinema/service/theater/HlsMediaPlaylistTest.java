@@ -0,0 +1,62 @@
+package com.example.cinema.service.theater;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HlsMediaPlaylistTest {
+
+    private static final String VOD = """
+            #EXTM3U
+            #EXT-X-VERSION:3
+            #EXT-X-TARGETDURATION:6
+            #EXT-X-MEDIA-SEQUENCE:0
+            #EXT-X-PLAYLIST-TYPE:VOD
+            #EXTINF:6.000000,
+            index0.ts
+            #EXTINF:6.000000,
+            index1.ts
+            #EXTINF:6.000000,
+            index2.ts
+            #EXTINF:6.000000,
+            index3.ts
+            #EXTINF:2.500000,
+            index4.ts
+            #EXT-X-ENDLIST
+            """;
+
+    private final HlsMediaPlaylist playlist = HlsMediaPlaylist.parse(VOD, uri -> "https://cdn.test/hls/1/" + uri);
+
+    @Test
+    @DisplayName("경과 시간으로 현재 세그먼트를 찾아야 한다")
+    void findsSegmentByElapsedTime() {
+        assertThat(playlist.segmentCount()).isEqualTo(5);
+        assertThat(playlist.durationMs()).isEqualTo(26_500L);
+        assertThat(playlist.segmentAt(0)).isZero();
+        assertThat(playlist.segmentAt(5_999)).isZero();
+        assertThat(playlist.segmentAt(6_000)).isEqualTo(1);
+        assertThat(playlist.segmentAt(26_499)).isEqualTo(4);
+        assertThat(playlist.segmentAt(26_500)).isEqualTo(5);
+        assertThat(playlist.segmentEndMs(1)).isEqualTo(12_000L);
+    }
+
+    @Test
+    @DisplayName("윈도우는 현재 세그먼트까지 슬라이딩하고 MEDIA-SEQUENCE 는 첫 세그먼트 번호여야 한다")
+    void rendersSlidingWindow() {
+        String window = playlist.render(3, 2);
+
+        assertThat(window).contains("#EXT-X-TARGETDURATION:6\n", "#EXT-X-MEDIA-SEQUENCE:2\n",
+                "https://cdn.test/hls/1/index2.ts\n", "https://cdn.test/hls/1/index3.ts\n");
+        assertThat(window).doesNotContain("index1.ts", "index4.ts", "#EXT-X-ENDLIST", "PLAYLIST-TYPE");
+    }
+
+    @Test
+    @DisplayName("마지막 세그먼트가 지나면 ENDLIST 로 끝나야 한다")
+    void endsAfterLastSegment() {
+        String window = playlist.render(playlist.segmentAt(60_000), 2);
+
+        assertThat(window).contains("#EXT-X-MEDIA-SEQUENCE:3\n", "index4.ts\n")
+                .endsWith("#EXT-X-ENDLIST\n");
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.cinema.service.theater;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * 플랫폼 스레드 모드 (Tomcat 기본 스레드 풀, STOMP/인코딩 고정 크기 풀)
+ */
+@TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+class PlatformThreadTheaterLoadBenchmarkTest extends TheaterLoadBenchmarkSupport {
+}
@@ -0,0 +1,88 @@
+package com.example.cinema.service.theater;
+
+import com.example.cinema.dto.theater.TheaterAdmissionResponse;
+import com.example.cinema.entity.User;
+import com.example.cinema.support.H2SpringBootTest;
+import com.example.cinema.support.TestFixtures;
+import com.example.cinema.type.AdmissionStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 상영관 입장 대기열 테스트 (H2 MySQL 모드, capacity 2)
+ * - 대기열 승격은 테스트에서 admitWaiting() 을 직접 호출
+ */
+@H2SpringBootTest(properties = {
+        "theater.admission.enabled=true",
+        "theater.admission.capacity=2",
+        "theater.admission.admit-ms=3600000"
+})
+class TheaterAdmissionServiceTest {
+
+    @Autowired
+    private TheaterAdmissionService admissionService;
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    @DisplayName("자리가 차면 FIFO 로 대기하고, 퇴장으로 자리가 나면 다음 대기자에게 입장권이 발급되어야 한다")
+    void queuesBeyondCapacityInOrder() {
+        User first = fixtures.subscriber("first");
+        User second = fixtures.subscriber("second");
+        User third = fixtures.subscriber("third");
+        User fourth = fixtures.subscriber("fourth");
+        long scheduleId = fixtures.playingSchedule("admission").getScheduleItemId();
+
+        TheaterAdmissionResponse firstTicket = request(scheduleId, first);
+        assertThat(firstTicket.getStatus()).isEqualTo(AdmissionStatus.ADMITTED);
+        assertThat(request(scheduleId, second).getStatus()).isEqualTo(AdmissionStatus.ADMITTED);
+        assertThat(request(scheduleId, third).getPosition()).isEqualTo(1);
+        assertThat(request(scheduleId, fourth).getPosition()).isEqualTo(2);
+        // 재요청은 순번 유지
+        assertThat(request(scheduleId, third).getPosition()).isEqualTo(1);
+
+        admissionService.checkTicket(scheduleId, first.getUserId(), firstTicket.getTicket());
+        assertThatThrownBy(() -> admissionService.checkTicket(scheduleId, third.getUserId(), "forged"))
+                .isInstanceOf(AccessDeniedException.class);
+
+        admissionService.leave(scheduleId, first.getUserId());
+        admissionService.admitWaiting();
+
+        TheaterAdmissionResponse promoted = request(scheduleId, third);
+        assertThat(promoted.getStatus()).isEqualTo(AdmissionStatus.ADMITTED);
+        admissionService.checkTicket(scheduleId, third.getUserId(), promoted.getTicket());
+        assertThat(request(scheduleId, fourth).getPosition()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("소켓이 끊긴 대기자는 대기열에서 빠지고, 뒤의 대기자가 앞당겨져야 한다")
+    void dropsDisconnectedWaiter() {
+        List<User> users = fixtures.subscribers("waiter", 4);
+        long scheduleId = fixtures.playingSchedule("admission-disconnect").getScheduleItemId();
+        users.forEach(user -> request(scheduleId, user));
+
+        admissionService.disconnected(users.get(2).getUserId());
+
+        assertThat(request(scheduleId, users.get(3)).getPosition()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("없는 일정에는 대기열이 생기지 않아야 한다")
+    void rejectsUnknownSchedule() {
+        User user = fixtures.subscriber("unknown");
+
+        assertThatThrownBy(() -> request(Long.MAX_VALUE, user))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private TheaterAdmissionResponse request(long scheduleId, User user) {
+        return admissionService.request(scheduleId, user.getUserId(), user.getEmail());
+    }
+}
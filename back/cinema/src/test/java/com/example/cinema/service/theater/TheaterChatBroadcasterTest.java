@@ -0,0 +1,64 @@
+package com.example.cinema.service.theater;
+
+import com.example.cinema.config.webSocket.relay.InProcessTopicRelay;
+import com.example.cinema.config.webSocket.relay.TopicRelayInterceptor;
+import com.example.cinema.dto.theater.ChatResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 노드 간 채팅 중계: 중계받은 채팅도 받는 노드의 최근 채팅 버퍼에 남아야 함
+ */
+class TheaterChatBroadcasterTest {
+
+    private final InProcessTopicRelay.Bus bus = new InProcessTopicRelay.Bus();
+    private final List<InProcessTopicRelay> relays = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        relays.forEach(InProcessTopicRelay::close);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 받은 채팅은 이 노드의 seq 를 부여받아 최근 채팅 버퍼에 저장되어야 한다")
+    void relayedChatIsKeptInLocalHistory() {
+        TheaterChatHistory historyA = new TheaterChatHistory();
+        TheaterChatHistory historyB = new TheaterChatHistory();
+        TheaterChatBroadcaster a = node(historyA);
+        node(historyB);
+
+        ChatResponse sent = a.publish(ChatResponse.from(1L, "hello", "alice"));
+
+        List<ChatResponse> relayed = historyB.after(1L, 0L);
+        assertThat(relayed).hasSize(1);
+        assertThat(relayed.get(0).getMessage()).isEqualTo("hello");
+        assertThat(relayed.get(0).getNickname()).isEqualTo("alice");
+        assertThat(relayed.get(0).getSentAt()).isEqualTo(sent.getSentAt());
+        assertThat(relayed.get(0).getSeq()).isPositive();
+        assertThat(historyA.after(1L, 0L)).extracting(ChatResponse::getSeq).containsExactly(sent.getSeq());
+    }
+
+    private TheaterChatBroadcaster node(TheaterChatHistory history) {
+        InProcessTopicRelay relay = new InProcessTopicRelay(bus);
+        relays.add(relay);
+        TopicRelayInterceptor interceptor = new TopicRelayInterceptor(relay, mock(MessageChannel.class));
+        interceptor.start();
+        ReflectionTestUtils.setField(history, "historySize", 10);
+        TheaterChatBroadcaster broadcaster = new TheaterChatBroadcaster(mock(SimpMessagingTemplate.class), history,
+                interceptor, new ObjectMapper().registerModule(new JavaTimeModule()));
+        broadcaster.subscribeRelay();
+        return broadcaster;
+    }
+}
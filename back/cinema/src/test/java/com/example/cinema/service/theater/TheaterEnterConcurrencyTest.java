@@ -0,0 +1,93 @@
+package com.example.cinema.service.theater;
+
+import com.example.cinema.entity.ScheduleItem;
+import com.example.cinema.entity.User;
+import com.example.cinema.entity.WatchHistory;
+import com.example.cinema.repository.watchHistory.WatchHistoryRepository;
+import com.example.cinema.support.H2SpringBootTest;
+import com.example.cinema.support.TestFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상영관 입장 upsert 동시성 테스트
+ * - 1,000건 동시 입장에서도 (사용자, 스케줄) 당 시청 기록이 1건만 남고 실패가 없어야 함
+ * - H2(MySQL 모드) 인메모리 DB 사용
+ */
+@H2SpringBootTest
+class TheaterEnterConcurrencyTest {
+
+    private static final int ENTRIES = 1_000;
+
+    @Autowired
+    private TheaterEnterService theaterEnterService;
+    @Autowired
+    private WatchHistoryRepository watchHistoryRepository;
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    @DisplayName("같은 사용자가 동시에 1,000번 입장해도 활성 시청 기록은 1건이어야 한다")
+    void sameUserParallelEntries() throws Exception {
+        ScheduleItem schedule = fixtures.playingSchedule("same");
+        User user = fixtures.subscriber("same");
+
+        int failures = enterInParallel(schedule.getScheduleItemId(), i -> user);
+
+        assertThat(failures).isZero();
+        assertThat(watchHistoriesOf(schedule)).hasSize(1)
+                .allSatisfy(history -> assertThat(history.getLeftAt()).isNull());
+    }
+
+    @Test
+    @DisplayName("서로 다른 사용자 1,000명이 동시에 입장하면 사용자당 시청 기록 1건씩 생성되어야 한다")
+    void distinctUsersParallelEntries() throws Exception {
+        ScheduleItem schedule = fixtures.playingSchedule("distinct");
+        List<User> users = fixtures.subscribers("distinct", ENTRIES);
+
+        int failures = enterInParallel(schedule.getScheduleItemId(), users::get);
+
+        assertThat(failures).isZero();
+        List<WatchHistory> histories = watchHistoriesOf(schedule);
+        assertThat(histories).hasSize(ENTRIES);
+        assertThat(histories.stream().map(history -> history.getUser().getUserId()).distinct()).hasSize(ENTRIES);
+    }
+
+    private int enterInParallel(long scheduleId, IntFunction<User> userOf) throws Exception {
+        AtomicInteger failures = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        // H2 는 행 잠금 대기 중 carrier 스레드를 점유(pinning)하므로 플랫폼 스레드로 실행
+        try (ExecutorService clients = Executors.newFixedThreadPool(ENTRIES)) {
+            for (int i = 0; i < ENTRIES; i++) {
+                User user = userOf.apply(i);
+                clients.submit(() -> {
+                    start.await();
+                    try {
+                        theaterEnterService.enter(scheduleId, user, null);
+                    } catch (Exception e) {
+                        failures.incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        }
+        return failures.get();
+    }
+
+    private List<WatchHistory> watchHistoriesOf(ScheduleItem schedule) {
+        return watchHistoryRepository.findAll().stream()
+                .filter(history -> history.getScheduleItem().getScheduleItemId().equals(schedule.getScheduleItemId()))
+                .toList();
+    }
+}
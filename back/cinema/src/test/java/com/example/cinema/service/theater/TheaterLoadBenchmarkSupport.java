@@ -0,0 +1,126 @@
+package com.example.cinema.service.theater;
+
+import com.example.cinema.config.common.JwtTokenProvider;
+import com.example.cinema.entity.User;
+import com.example.cinema.support.H2SpringBootTest;
+import com.example.cinema.support.TestFixtures;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상영관 입장/재생 정보 부하 테스트 (./gradlew benchmark)
+ * - 동시 사용자 load.users(기본 5,000)명이 같은 시점에 POST /theaters/{id}/enter → GET /theaters/{id}/playback
+ * - 요청별 지연 시간의 p50 / p99 와 실패 수를 출력 (플랫폼 스레드 / 가상 스레드 모드 각각 실행)
+ * - H2 인메모리 DB 사용, Hikari 풀 크기는 두 모드 동일
+ */
+@Tag("benchmark")
+@H2SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "server.tomcat.accept-count=10000"
+})
+abstract class TheaterLoadBenchmarkSupport {
+
+    private static final int USERS = Integer.getInteger("load.users", 5_000);
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Autowired
+    private TestFixtures fixtures;
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Test
+    void enterAndPlaybackLatency() throws Exception {
+        long scheduleId = fixtures.playingSchedule("load").getScheduleItemId();
+        List<String> tokens = seedUsers(USERS);
+
+        long[] enterNanos = new long[USERS];
+        long[] playbackNanos = new long[USERS];
+        AtomicInteger failures = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        String base = "http://localhost:" + port + "/theaters/" + scheduleId;
+
+        try (HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(60))
+                .build();
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < USERS; i++) {
+                int user = i;
+                clients.submit(() -> {
+                    start.await();
+                    enterNanos[user] = call(http, HttpRequest.newBuilder(URI.create(base + "/enter"))
+                            .POST(HttpRequest.BodyPublishers.noBody()), tokens.get(user), failures);
+                    playbackNanos[user] = call(http, HttpRequest.newBuilder(URI.create(base + "/playback"))
+                            .GET(), tokens.get(user), failures);
+                    return null;
+                });
+            }
+            start.countDown();
+        }
+
+        System.out.printf("[theater load] mode=%s users=%d failures=%d | enter p50=%dms p99=%dms | playback p50=%dms p99=%dms%n",
+                virtualThreads ? "virtual" : "platform", USERS, failures.get(),
+                percentileMs(enterNanos, 50), percentileMs(enterNanos, 99),
+                percentileMs(playbackNanos, 50), percentileMs(playbackNanos, 99));
+
+        assertThat(failures.get()).isLessThan(USERS / 100);
+    }
+
+    private static long call(HttpClient http, HttpRequest.Builder request, String token, AtomicInteger failures) {
+        long started = System.nanoTime();
+        try {
+            HttpResponse<Void> response = http.send(request
+                    .header("Authorization", "Bearer " + token)
+                    .timeout(Duration.ofSeconds(120))
+                    .build(), HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() != 200) {
+                failures.incrementAndGet();
+            }
+        } catch (Exception e) {
+            failures.incrementAndGet();
+        }
+        return System.nanoTime() - started;
+    }
+
+    private static long percentileMs(long[] nanos, int percentile) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        int index = Math.min(sorted.length - 1, (int) Math.ceil(sorted.length * percentile / 100.0) - 1);
+        return sorted[Math.max(index, 0)] / 1_000_000;
+    }
+
+    private List<String> seedUsers(int count) {
+        List<User> users = fixtures.subscribers("load", count);
+        List<String> tokens = new ArrayList<>(count);
+        for (User user : users) {
+            tokens.add(jwtTokenProvider.generateToken(new UsernamePasswordAuthenticationToken(
+                    user.getEmail(), null, List.of(new SimpleGrantedAuthority("ROLE_USER")))));
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.cinema.service.theater;
+
+import com.example.cinema.dto.theater.PlaybackStateResponse;
+import com.example.cinema.type.ScheduleStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 상태 전송 1회당 할당량 비교 (./gradlew benchmark)
+ * - /topic 브로드캐스트
+ *   before: POJO 를 convertAndSend → 컨버터가 목적지당 1회 직렬화, simple broker 가 같은 payload 를 세션마다 공유
+ *   after : 스냅샷 byte[] 를 convertAndSend → 직렬화 횟수가 같으므로 차이가 없어야 함
+ * - 구독 직후 응답(@SubscribeMapping)
+ *   before: 구독마다 상태 조회 + Jackson 직렬화
+ *   after : snapshot-ttl 이내에는 같은 스냅샷 버퍼 재사용 → 실제 절감 구간
+ * 세션별 STOMP 헤더/메시지 생성 비용은 모든 경우에 동일하게 포함하고, 상태 조회의 DB 비용은 제외합니다.
+ */
+@Tag("benchmark")
+class TheaterStateBroadcastBenchmarkTest {
+
+    private static final long SCHEDULE_ID = 1L;
+    private static final int ROUNDS = 5;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter(objectMapper);
+    private final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @ParameterizedTest(name = "subscribers={0}")
+    @ValueSource(ints = {1_000, 10_000, 50_000})
+    @DisplayName("브로드캐스트는 직렬화 1회로 같고, 구독 응답은 스냅샷 재사용으로 할당량이 줄어야 한다")
+    void allocationsPerFanOut(int subscribers) {
+        TheaterSyncService syncService = syncService();
+        TheaterStateBroadcaster broadcaster = new TheaterStateBroadcaster(
+                syncService, mock(SimpMessagingTemplate.class), objectMapper);
+        ReflectionTestUtils.setField(broadcaster, "snapshotTtlMs", 60_000L);
+        Message<?>[] outbound = new Message<?>[subscribers];
+
+        long broadcastBefore = measure(outbound, out -> broadcastPojo(syncService, out));
+        long broadcastAfter = measure(outbound, out -> broadcastSnapshot(broadcaster, out));
+        long subscribeBefore = measure(outbound, out -> subscribePerSession(syncService, out));
+        long subscribeAfter = measure(outbound, out -> subscribeShared(broadcaster, out));
+
+        System.out.printf("[state broadcast] subscribers=%d before=%,d B (%,d B/session) after=%,d B (%,d B/session)%n",
+                subscribers, broadcastBefore, broadcastBefore / subscribers, broadcastAfter, broadcastAfter / subscribers);
+        System.out.printf("[state subscribe] subscribers=%d before=%,d B (%,d B/session) after=%,d B (%,d B/session)%n",
+                subscribers, subscribeBefore, subscribeBefore / subscribers, subscribeAfter, subscribeAfter / subscribers);
+
+        assertThat(subscribeAfter).isLessThan(subscribeBefore);
+    }
+
+    private long measure(Message<?>[] outbound, Consumer<Message<?>[]> fanOut) {
+        fanOut.accept(outbound); // warm-up
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = threadMXBean.getCurrentThreadAllocatedBytes();
+            fanOut.accept(outbound);
+            min = Math.min(min, threadMXBean.getCurrentThreadAllocatedBytes() - start);
+        }
+        return min;
+    }
+
+    /** 변경 전 브로드캐스트: POJO 를 컨버터로 1회 직렬화, 세션마다 같은 payload 공유 */
+    private void broadcastPojo(TheaterSyncService syncService, Message<?>[] outbound) {
+        Message<?> converted = converter.toMessage(syncService.getState(SCHEDULE_ID), null);
+        fanOut(converted.getPayload(), outbound);
+    }
+
+    private void broadcastSnapshot(TheaterStateBroadcaster broadcaster, Message<?>[] outbound) {
+        fanOut(broadcaster.snapshot(SCHEDULE_ID), outbound);
+    }
+
+    /** 변경 전 구독 응답: 구독마다 상태 조회 + 직렬화 */
+    private void subscribePerSession(TheaterSyncService syncService, Message<?>[] outbound) {
+        for (int i = 0; i < outbound.length; i++) {
+            Message<?> converted = converter.toMessage(syncService.getState(SCHEDULE_ID), null);
+            outbound[i] = sessionMessage(i, converted.getPayload());
+        }
+    }
+
+    private void subscribeShared(TheaterStateBroadcaster broadcaster, Message<?>[] outbound) {
+        for (int i = 0; i < outbound.length; i++) {
+            outbound[i] = sessionMessage(i, broadcaster.snapshot(SCHEDULE_ID));
+        }
+    }
+
+    private static void fanOut(Object payload, Message<?>[] outbound) {
+        for (int i = 0; i < outbound.length; i++) {
+            outbound[i] = sessionMessage(i, payload);
+        }
+    }
+
+    /** DB 조회 비용은 제외 (Mockito 호출 기록 할당이 섞이지 않도록 직접 구현) */
+    private static TheaterSyncService syncService() {
+        return new TheaterSyncService(null) {
+            @Override
+            public PlaybackStateResponse getState(long scheduleId) {
+                return PlaybackStateResponse.builder()
+                        .status(ScheduleStatus.PLAYING)
+                        .playing(true)
+                        .positionMs(123_456L)
+                        .playbackRate(1.0)
+                        .serverTimeMs(System.currentTimeMillis())
+                        .build();
+            }
+        };
+    }
+
+    private static Message<Object> sessionMessage(int session, Object payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+        accessor.setSessionId("s" + session);
+        accessor.setSubscriptionId("sub-0");
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+}
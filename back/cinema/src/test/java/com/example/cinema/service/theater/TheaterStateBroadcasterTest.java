@@ -0,0 +1,81 @@
+package com.example.cinema.service.theater;
+
+import com.example.cinema.entity.ScheduleItem;
+import com.example.cinema.type.ScheduleStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class TheaterStateBroadcasterTest {
+
+    private final TheaterSyncService syncService = mock(TheaterSyncService.class);
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final TheaterStateBroadcaster broadcaster =
+            new TheaterStateBroadcaster(syncService, messagingTemplate, new ObjectMapper());
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("전이된 상태는 일정별 재조회 없이 커밋 후에만 일괄 전송해야 한다")
+    void broadcastsStatesAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        broadcaster.broadcastStates(List.of(schedule(1L, ScheduleStatus.PLAYING), schedule(2L, ScheduleStatus.ENDING)));
+
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class), anyMap());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        verify(messagingTemplate).convertAndSend(eq("/topic/theaters/1/state"), any(byte[].class), anyMap());
+        verify(messagingTemplate).convertAndSend(eq("/topic/theaters/2/state"), any(byte[].class), anyMap());
+        verifyNoInteractions(syncService);
+    }
+
+    @Test
+    @DisplayName("티커에서 빠진 상영관의 heartbeat 는 ENDING 스냅샷을 덮어쓰지 않고 전송하지 않아야 한다")
+    void heartbeatSkipsUntrackedSchedule() {
+        ReflectionTestUtils.setField(broadcaster, "snapshotTtlMs", 60_000L);
+        broadcaster.broadcastStates(List.of(schedule(1L, ScheduleStatus.ENDING)));
+
+        broadcaster.broadcastHeartbeat(1L, System.currentTimeMillis() - 60_000L, id -> false);
+
+        String snapshot = new String(broadcaster.snapshot(1L));
+        assertThat(snapshot).contains("\"status\":\"ENDING\"");
+        verify(messagingTemplate, times(1)).convertAndSend(eq("/topic/theaters/1/state"), any(byte[].class), anyMap());
+        verify(messagingTemplate, never()).convertAndSend(eq("/topic/theaters/1/state"), any(byte[].class));
+        verifyNoInteractions(syncService);
+    }
+
+    private static ScheduleItem schedule(long scheduleId, ScheduleStatus status) {
+        ScheduleItem item = ScheduleItem.builder()
+                .startAt(LocalDateTime.now().minusMinutes(1))
+                .endAt(LocalDateTime.now().plusHours(1))
+                .status(status)
+                .build();
+        ReflectionTestUtils.setField(item, "scheduleItemId", scheduleId);
+        return item;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.cinema.service.theater;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * 가상 스레드 모드 (spring.threads.virtual.enabled=true)
+ */
+@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadTheaterLoadBenchmarkTest extends TheaterLoadBenchmarkSupport {
+}
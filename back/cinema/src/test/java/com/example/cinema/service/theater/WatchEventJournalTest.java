@@ -0,0 +1,62 @@
+package com.example.cinema.service.theater;
+
+import com.example.cinema.service.theater.WatchEventJournal.Entry;
+import com.example.cinema.service.theater.WatchEventJournal.Event;
+import com.example.cinema.service.theater.WatchEventJournal.Type;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WatchEventJournalTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("재시작 시 checkpoint 이후 이벤트만 다시 읽어야 한다")
+    void replaysEventsAfterCheckpoint() throws Exception {
+        Path path = dir.resolve("watch-journal.log");
+        try (WatchEventJournal journal = new WatchEventJournal(path)) {
+            Entry first = journal.append(new Event(Type.ENTER, 1L, 10L, 1_000L));
+            journal.append(new Event(Type.LEAVE, 1L, 10L, 9_000L));
+            journal.commit(first.endOffset());
+        }
+
+        try (WatchEventJournal journal = new WatchEventJournal(path)) {
+            List<Entry> pending = journal.readUncommitted();
+            assertThat(pending).extracting(Entry::event)
+                    .containsExactly(new Event(Type.LEAVE, 1L, 10L, 9_000L));
+        }
+    }
+
+    @Test
+    @DisplayName("모두 반영되면 저널 파일을 비우고, 잘린 마지막 레코드는 무시해야 한다")
+    void truncatesWhenFullyCommittedAndIgnoresTornTail() throws Exception {
+        Path path = dir.resolve("watch-journal.log");
+        try (WatchEventJournal journal = new WatchEventJournal(path)) {
+            Entry last = journal.append(new Event(Type.ENTER, 2L, 20L, 1_000L));
+            journal.commit(last.endOffset());
+            assertThat(Files.size(path)).isZero();
+
+            journal.append(new Event(Type.ENTER, 3L, 20L, 2_000L));
+        }
+        // 프로세스 중단으로 레코드 일부만 기록된 상황
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0, 1, 2}));
+        }
+
+        try (WatchEventJournal journal = new WatchEventJournal(path)) {
+            assertThat(journal.readUncommitted()).extracting(Entry::event)
+                    .containsExactly(new Event(Type.ENTER, 3L, 20L, 2_000L));
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.cinema.service.theater;
+
+import com.example.cinema.dto.theater.TheaterEnterResponse;
+import com.example.cinema.entity.ScheduleItem;
+import com.example.cinema.entity.User;
+import com.example.cinema.entity.WatchHistory;
+import com.example.cinema.repository.content.ContentRepository;
+import com.example.cinema.repository.watchHistory.WatchHistoryRepository;
+import com.example.cinema.support.H2SpringBootTest;
+import com.example.cinema.support.TestFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 시청 기록 write-behind 반영 테스트 (H2 MySQL 모드)
+ */
+@H2SpringBootTest(properties = {
+        "theater.watch-journal.enabled=true",
+        "theater.watch-journal.path=build/tmp/watch-journal-test/${random.uuid}.log",
+        "theater.watch-journal.flush-ms=3600000"
+})
+class WatchHistoryWriteBehindTest {
+
+    @Autowired
+    private TheaterEnterService theaterEnterService;
+    @Autowired
+    private WatchHistoryWriteBehind writeBehind;
+    @Autowired
+    private WatchHistoryRepository watchHistoryRepository;
+    @Autowired
+    private ContentRepository contentRepository;
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    @DisplayName("입장은 메모리 상태로 응답하고 flush 시점에 DB 에 반영되어야 한다")
+    void enterIsWrittenOnFlush() {
+        ScheduleItem schedule = fixtures.playingSchedule("enter");
+        User user = fixtures.subscriber("enter");
+
+        TheaterEnterResponse response = theaterEnterService.enter(schedule.getScheduleItemId(), user, null);
+
+        assertThat(response.getContentTitle()).isEqualTo("enter");
+        assertThat(findHistory(user, schedule)).isEmpty();
+
+        writeBehind.flush();
+
+        assertThat(findHistory(user, schedule)).hasValueSatisfying(history -> {
+            assertThat(history.getLeftAt()).isNull();
+            assertThat(history.getEnterAt()).isEqualTo(response.getEnteredAt());
+        });
+    }
+
+    @Test
+    @DisplayName("기준 시간 이상 시청 후 퇴장하면 조회수가 1회만 반영되어야 한다")
+    void leaveCountsViewOnce() {
+        ScheduleItem schedule = fixtures.playingSchedule("leave");
+        User user = fixtures.subscriber("leave");
+        long userId = user.getUserId();
+        long scheduleId = schedule.getScheduleItemId();
+
+        theaterEnterService.enter(scheduleId, user, null);
+        writeBehind.leave(userId, scheduleId, LocalDateTime.now().plusSeconds(WatchHistory.VIEW_COUNT_MIN_SECONDS + 1));
+        writeBehind.flush();
+        // 재입장 → 퇴장이 같은 flush 에 묶여도 순서대로 반영되고 조회수는 중복되지 않아야 함
+        writeBehind.enter(userId, scheduleId, "leave");
+        writeBehind.leave(userId, scheduleId, LocalDateTime.now().plusSeconds(WatchHistory.VIEW_COUNT_MIN_SECONDS + 1));
+        writeBehind.enter(userId, scheduleId, "leave");
+        writeBehind.flush();
+
+        assertThat(findHistory(user, schedule)).hasValueSatisfying(history -> {
+            assertThat(history.getLeftAt()).isNull();
+            assertThat(history.getViewCounted()).isTrue();
+        });
+        assertThat(contentRepository.findById(schedule.getContent().getContentId()))
+                .hasValueSatisfying(content -> assertThat(content.getTotalView()).isEqualTo(1L));
+    }
+
+    private Optional<WatchHistory> findHistory(User user, ScheduleItem schedule) {
+        return watchHistoryRepository.findWithContentByUserIdAndScheduleItemId(
+                user.getUserId(), schedule.getScheduleItemId());
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.cinema.service.theater;
+
+import com.example.cinema.config.webSocket.relay.InProcessTopicRelay;
+import com.example.cinema.config.webSocket.relay.TopicRelay;
+import com.example.cinema.entity.ScheduleItem;
+import com.example.cinema.entity.User;
+import com.example.cinema.entity.WatchHistory;
+import com.example.cinema.repository.watchHistory.WatchHistoryRepository;
+import com.example.cinema.service.content.ContentViewCounter;
+import com.example.cinema.support.H2SpringBootTest;
+import com.example.cinema.support.TestFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 남은 시청 기록 정리 테스트 (H2 MySQL 모드)
+ * - 주기 작업은 테스트에서 reap() / closeSchedules() 를 직접 호출
+ * - 소켓 종료 퇴장은 다른 노드 확인 요청 다음 주기에 처리되므로 reap() 을 두 번 호출
+ */
+@H2SpringBootTest
+class WatchSessionReaperTest {
+
+    @Autowired
+    private WatchSessionReaper sessionReaper;
+    @Autowired
+    private TheaterEnterService theaterEnterService;
+    @Autowired
+    private ContentViewCounter contentViewCounter;
+    @Autowired
+    private WatchHistoryRepository watchHistoryRepository;
+    @Autowired
+    private TestFixtures fixtures;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("소켓이 끊긴 사용자와 상영 종료된 상영관의 남은 시청 기록을 일괄 퇴장 처리해야 한다")
+    void closesDanglingHistories() {
+        ScheduleItem schedule = fixtures.playingSchedule("reaper");
+        long scheduleId = schedule.getScheduleItemId();
+        User longViewer = fixtures.subscriber("long");
+        User shortViewer = fixtures.subscriber("short");
+        User stayer = fixtures.subscriber("stayer");
+        for (User user : List.of(longViewer, shortViewer, stayer)) {
+            theaterEnterService.enter(scheduleId, user, null);
+        }
+        // 조회수 집계 기준 시간 이상 시청한 것으로 만듦
+        jdbcTemplate.update("UPDATE watch_histories SET enter_at = ? WHERE user_id IN (?, ?)",
+                LocalDateTime.now().minusMinutes(1), longViewer.getUserId(), stayer.getUserId());
+        long pendingViews = contentViewCounter.getPendingIncrements();
+
+        sessionReaper.disconnected(longViewer.getUserId(), List.of(scheduleId));
+        sessionReaper.disconnected(shortViewer.getUserId(), List.of(scheduleId));
+        sessionReaper.reap(); // 다른 노드에 세션 확인 요청
+        sessionReaper.reap();
+
+        Map<Long, WatchHistory> histories = historiesByUser(scheduleId);
+        assertThat(histories.get(longViewer.getUserId()).getLeftAt()).isNotNull();
+        assertThat(histories.get(longViewer.getUserId()).getViewCounted()).isTrue();
+        assertThat(histories.get(shortViewer.getUserId()).getLeftAt()).isNotNull();
+        assertThat(histories.get(shortViewer.getUserId()).getViewCounted()).isFalse();
+        assertThat(histories.get(stayer.getUserId()).getLeftAt()).isNull();
+        assertThat(contentViewCounter.getPendingIncrements()).isEqualTo(pendingViews + 1);
+
+        transactionTemplate.executeWithoutResult(status -> sessionReaper.closeSchedules(List.of(scheduleId)));
+
+        histories = historiesByUser(scheduleId);
+        assertThat(histories.values()).allSatisfy(history -> assertThat(history.getLeftAt()).isNotNull());
+        assertThat(histories.get(stayer.getUserId()).getViewCounted()).isTrue();
+        assertThat(contentViewCounter.getPendingIncrements()).isEqualTo(pendingViews + 2);
+    }
+
+    @Test
+    @DisplayName("여러 상영관을 함께 처리해도 소켓이 끊긴 (상영관, 사용자) 조합의 기록만 닫아야 한다")
+    void closesOnlyDisconnectedPairs() {
+        long first = fixtures.playingSchedule("reaper-a").getScheduleItemId();
+        long second = fixtures.playingSchedule("reaper-b").getScheduleItemId();
+        User alice = fixtures.subscriber("alice");
+        User bob = fixtures.subscriber("bob");
+        for (long scheduleId : List.of(first, second)) {
+            theaterEnterService.enter(scheduleId, alice, null);
+            theaterEnterService.enter(scheduleId, bob, null);
+        }
+
+        sessionReaper.disconnected(alice.getUserId(), List.of(first));
+        sessionReaper.disconnected(bob.getUserId(), List.of(second));
+        sessionReaper.reap(); // 다른 노드에 세션 확인 요청
+        sessionReaper.reap();
+
+        assertThat(historiesByUser(first).get(alice.getUserId()).getLeftAt()).isNotNull();
+        assertThat(historiesByUser(first).get(bob.getUserId()).getLeftAt()).isNull();
+        assertThat(historiesByUser(second).get(bob.getUserId()).getLeftAt()).isNotNull();
+        assertThat(historiesByUser(second).get(alice.getUserId()).getLeftAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 노드에 세션이 남아 있다고 응답한 사용자의 기록은 닫지 않아야 한다")
+    void keepsUserConnectedOnAnotherNode() {
+        long scheduleId = fixtures.playingSchedule("reaper-remote").getScheduleItemId();
+        User roamer = fixtures.subscriber("roamer");
+        User leaver = fixtures.subscriber("leaver");
+        theaterEnterService.enter(scheduleId, roamer, null);
+        theaterEnterService.enter(scheduleId, leaver, null);
+
+        // roamer 의 소켓이 남아 있는 다른 노드
+        InProcessTopicRelay otherNode = new InProcessTopicRelay(InProcessTopicRelay.Bus.shared());
+        String check = "/topic/theaters/" + scheduleId + "/sessions/check";
+        otherNode.start(frame -> {
+            if (frame.destination().equals(check)) {
+                otherNode.publish(new TopicRelay.RelayFrame("/topic/theaters/" + scheduleId + "/sessions/keep", null,
+                        String.valueOf(roamer.getUserId()).getBytes(StandardCharsets.UTF_8)));
+            }
+        });
+        try {
+            sessionReaper.disconnected(roamer.getUserId(), List.of(scheduleId));
+            sessionReaper.disconnected(leaver.getUserId(), List.of(scheduleId));
+            sessionReaper.reap();
+            sessionReaper.reap();
+        } finally {
+            otherNode.close();
+        }
+
+        assertThat(historiesByUser(scheduleId).get(roamer.getUserId()).getLeftAt()).isNull();
+        assertThat(historiesByUser(scheduleId).get(leaver.getUserId()).getLeftAt()).isNotNull();
+    }
+
+    private Map<Long, WatchHistory> historiesByUser(long scheduleId) {
+        return watchHistoryRepository.findAll().stream()
+                .filter(history -> history.getScheduleItem().getScheduleItemId() == scheduleId)
+                .collect(Collectors.toMap(history -> history.getUser().getUserId(), Function.identity()));
+    }
+}
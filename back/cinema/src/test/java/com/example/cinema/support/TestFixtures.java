@@ -0,0 +1,115 @@
+package com.example.cinema.support;
+
+import com.example.cinema.entity.*;
+import com.example.cinema.repository.content.ContentRepository;
+import com.example.cinema.repository.mediaAsset.MediaAssetRepository;
+import com.example.cinema.repository.schedule.ScheduleDayRepository;
+import com.example.cinema.repository.schedule.ScheduleItemRepository;
+import com.example.cinema.repository.subscription.SubscriptionRepository;
+import com.example.cinema.repository.user.UserRepository;
+import com.example.cinema.type.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 통합 테스트 공용 픽스처 (@H2SpringBootTest 가 등록)
+ * - 컨텍스트/DB 를 여러 테스트 클래스가 공유하므로 email / nickname 에 일련번호를 붙여 충돌 방지
+ */
+public class TestFixtures {
+
+    private static final AtomicLong SEQ = new AtomicLong();
+
+    private final UserRepository userRepository;
+    private final SubscriptionRepository subscriptionRepository;
+    private final MediaAssetRepository mediaAssetRepository;
+    private final ContentRepository contentRepository;
+    private final ScheduleDayRepository scheduleDayRepository;
+    private final ScheduleItemRepository scheduleItemRepository;
+
+    public TestFixtures(UserRepository userRepository, SubscriptionRepository subscriptionRepository,
+                        MediaAssetRepository mediaAssetRepository, ContentRepository contentRepository,
+                        ScheduleDayRepository scheduleDayRepository, ScheduleItemRepository scheduleItemRepository) {
+        this.userRepository = userRepository;
+        this.subscriptionRepository = subscriptionRepository;
+        this.mediaAssetRepository = mediaAssetRepository;
+        this.contentRepository = contentRepository;
+        this.scheduleDayRepository = scheduleDayRepository;
+        this.scheduleItemRepository = scheduleItemRepository;
+    }
+
+    public User user(String name) {
+        return userRepository.save(newUser(name, false));
+    }
+
+    public User seller(String name) {
+        return userRepository.save(newUser(name, true));
+    }
+
+    public User subscriber(String name) {
+        return subscribers(name, 1).get(0);
+    }
+
+    /**
+     * 구독 중인 사용자 일괄 생성 (saveAll 로 한 번에 저장)
+     */
+    public List<User> subscribers(String name, int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            users.add(newUser(name, false));
+        }
+        userRepository.saveAll(users);
+
+        List<Subscription> subscriptions = subscriptionRepository.saveAll(
+                users.stream().map(user -> Subscription.create(user, null)).toList());
+        for (int i = 0; i < count; i++) {
+            users.get(i).registerSubscription(subscriptions.get(i));
+        }
+        return userRepository.saveAll(users);
+    }
+
+    public Content content(User owner, String title) {
+        return contentRepository.save(Content.builder()
+                .owner(owner).title(title).status(ContentStatus.PUBLISHED).build());
+    }
+
+    /**
+     * 인코딩이 끝나 HLS 마스터가 연결된 공개 콘텐츠 (판매자 소유)
+     */
+    public Content hlsContent(String name) {
+        User owner = seller("owner-" + name);
+        MediaAsset hls = mediaAssetRepository.save(MediaAsset.builder()
+                .owner(owner).assetType(AssetType.VIDEO_HLS_MASTER).bucket("test")
+                .objectKey("hls/" + name + "/index.m3u8").visibility(Visibility.PUBLIC).build());
+        return contentRepository.save(Content.builder()
+                .owner(owner).title(name).status(ContentStatus.PUBLISHED)
+                .encodingStatus(EncodingStatus.READY).videoHlsMaster(hls).build());
+    }
+
+    public ScheduleItem playingSchedule(String name) {
+        return playingSchedule(hlsContent(name));
+    }
+
+    /**
+     * 1분 전 시작, 2시간 뒤 종료하는 상영 중(PLAYING) 일정
+     */
+    public ScheduleItem playingSchedule(Content content) {
+        ScheduleDay day = scheduleDayRepository.save(ScheduleDay.builder()
+                .content(content).scheduleDate(LocalDate.now()).build());
+        LocalDateTime now = LocalDateTime.now();
+        return scheduleItemRepository.save(ScheduleItem.builder()
+                .scheduleDay(day).content(content)
+                .startAt(now.minusMinutes(1)).endAt(now.plusHours(2))
+                .status(ScheduleStatus.PLAYING).build());
+    }
+
+    private static User newUser(String name, boolean seller) {
+        long seq = SEQ.incrementAndGet();
+        return User.builder()
+                .email(name + "-" + seq + "@cinema.test").nickname(name + "-" + seq)
+                .passwordHash("x").seller(seller).build();
+    }
+}
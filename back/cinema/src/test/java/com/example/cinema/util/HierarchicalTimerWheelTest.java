@@ -0,0 +1,54 @@
+package com.example.cinema.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HierarchicalTimerWheelTest {
+
+    @Test
+    @DisplayName("각 항목은 정확히 자신의 tick 에 만료되어야 한다 (상위 레벨 / overflow 포함)")
+    void expiresExactlyOnDeadline() {
+        long start = 1_000_000L;
+        // tick 100ms, 레벨당 16 슬롯, 2 레벨 → 25.6초 이후는 overflow
+        HierarchicalTimerWheel<Long> wheel = new HierarchicalTimerWheel<>(100, 4, 2, start);
+        Random random = new Random(7);
+        List<Long> deadlines = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            long deadline = start + 100 + random.nextInt(120_000);
+            deadlines.add(deadline);
+            wheel.add(deadline, deadline);
+        }
+        assertThat(wheel.size()).isEqualTo(2_000);
+
+        int expired = 0;
+        for (long now = start; now <= start + 121_000; now += 100) {
+            for (Long deadline : wheel.advance(now)) {
+                assertThat(deadline / 100).isEqualTo(now / 100);
+                expired++;
+            }
+        }
+        assertThat(expired).isEqualTo(deadlines.size());
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("지난 시각으로 등록하면 다음 advance 에서 만료되고, 건너뛴 구간도 한 번에 처리해야 한다")
+    void handlesOverdueAndCatchUp() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(100, 4, 3, 0);
+        wheel.add(-500, "late");
+        wheel.add(5_000, "five");
+        wheel.add(300_000, "five-minutes");
+
+        assertThat(wheel.advance(0)).containsExactly("late");
+        assertThat(wheel.advance(4_900)).isEmpty();
+        assertThat(wheel.advance(10_000)).containsExactly("five");
+        assertThat(wheel.advance(299_900)).isEmpty();
+        assertThat(wheel.advance(300_000)).containsExactly("five-minutes");
+    }
+}
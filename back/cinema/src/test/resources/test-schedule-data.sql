@@ -111,5 +111,10 @@ INSERT INTO schedule_items (schedule_day_id, content_id, start_at, end_at, statu
 (28, 16, '2026-01-21 19:00:00', '2026-01-21 21:00:00', 'CLOSED', NOW(), NOW()),
 (29, 16, '2026-01-25 11:00:00', '2026-01-25 13:00:00', 'CLOSED', NOW(), NOW());
 
+-- 창작자 ID (겹침 검사용 비정규화 컬럼)
+UPDATE schedule_items
+   SET owner_user_id = (SELECT c.owner_user_id FROM contents c WHERE c.content_id = schedule_items.content_id)
+ WHERE owner_user_id IS NULL;
+
 -- 6. 안전 업데이트 모드 원복
 SET SQL_SAFE_UPDATES = 1;
\ No newline at end of file
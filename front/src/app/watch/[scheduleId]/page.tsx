@@ -24,6 +24,7 @@ type PlaybackStateResponse = {
 };
 
 type ChatMessage = {
+  seq?: number;
   scheduleId: number;
   message: string;
   nickname: string;
@@ -86,6 +87,21 @@ export default function WatchPage() {
   const [scheduleInfo, setScheduleInfo] = useState<ScheduleInfoResponse | null>(null);
   const [needsUserPlay, setNeedsUserPlay] = useState(false);
   const prevStatusRef = useRef<PlaybackStateResponse['status'] | null>(null);
+  const lastChatSeqRef = useRef(0);
+  const seenChatSeqRef = useRef<Set<number>>(new Set());
+
+  // 채팅 추가 (실시간/이어받기 메시지가 겹쳐도 seq 기준으로 한 번만 표시)
+  const appendChat = useCallback((batch: ChatMessage[]) => {
+    const fresh = batch.filter((msg) => msg.seq == null || !seenChatSeqRef.current.has(msg.seq));
+    if (fresh.length === 0) return;
+    fresh.forEach((msg) => {
+      if (msg.seq != null) {
+        seenChatSeqRef.current.add(msg.seq);
+        lastChatSeqRef.current = Math.max(lastChatSeqRef.current, msg.seq);
+      }
+    });
+    setChatMessages((prev) => [...prev, ...fresh]);
+  }, []);
 
   // HLS 초기화
   const initHls = useCallback((videoUrl: string) => {
@@ -276,11 +292,30 @@ export default function WatchPage() {
           }
         });
 
+        // 시청자 수 구독 (서버 푸시)
+        client.subscribe(`/topic/theaters/${scheduleId}/viewers`, (message) => {
+          const count = Number(message.body);
+          if (mounted && !Number.isNaN(count)) {
+            setViewerCount(count);
+          }
+        });
+
         // 채팅 구독
         client.subscribe(`/topic/theaters/${scheduleId}/chat`, (message) => {
           try {
-            const payload = JSON.parse(message.body) as ChatMessage;
-            setChatMessages((prev) => [...prev, payload]);
+            // 서버가 짧은 구간 단위로 묶어서 배열로 전송
+            const payload = JSON.parse(message.body) as ChatMessage[] | ChatMessage;
+            const batch = Array.isArray(payload) ? payload : [payload];
+            appendChat(batch);
+          } catch {
+            // ignore
+          }
+        });
+
+        // 최근 채팅 이어받기 (중간 입장 / 재접속 시 마지막으로 받은 seq 이후)
+        client.subscribe(`/app/theaters/${scheduleId}/chat/after/${lastChatSeqRef.current}`, (message) => {
+          try {
+            appendChat(JSON.parse(message.body) as ChatMessage[]);
           } catch {
             // ignore
           }
@@ -319,9 +354,9 @@ export default function WatchPage() {
       api.post(`/theaters/${scheduleId}/leave`).catch(() => {});
       }
     };
-  }, [accessToken, scheduleId]);
+  }, [accessToken, appendChat, scheduleId]);
 
-  // 시청자 수 폴링
+  // 시청자 수 초기 조회 (이후 변경은 /topic/theaters/{id}/viewers 로 수신)
   useEffect(() => {
     if (!scheduleId || Number.isNaN(scheduleId)) return;
     let isMounted = true;
@@ -340,11 +375,9 @@ export default function WatchPage() {
     };
 
     fetchViewers();
-    const intervalId = window.setInterval(fetchViewers, 5000);
 
     return () => {
       isMounted = false;
-      window.clearInterval(intervalId);
     };
   }, [scheduleId]);
 
@@ -375,12 +408,15 @@ export default function WatchPage() {
 
     // 재생/일시정지 동기화
     if (videoRef.current) {
-      // 자동재생 정책 대응: 음소거 상태에서 재생 시도
-      videoRef.current.muted = true;
       if (state.playing && state.status === 'PLAYING') {
-        videoRef.current.play().catch(() => {
-          setNeedsUserPlay(true);
-        });
+        // 주기적인 heartbeat 로 이미 재생 중이면 음소거/재생을 다시 시도하지 않음
+        if (videoRef.current.paused) {
+          // 자동재생 정책 대응: 음소거 상태에서 재생 시도
+          videoRef.current.muted = true;
+          videoRef.current.play().catch(() => {
+            setNeedsUserPlay(true);
+          });
+        }
       } else if (!state.playing || state.status === 'WAITING') {
         videoRef.current.pause();
       }